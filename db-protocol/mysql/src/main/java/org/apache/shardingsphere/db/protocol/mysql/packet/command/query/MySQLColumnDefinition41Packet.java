@@ -33,13 +33,13 @@ import java.sql.SQLException;
  * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-Protocol::ColumnDefinition41">ColumnDefinition41</a>
  * @see <a href="https://mariadb.com/kb/en/library/resultset/#column-definition-packet">Column definition packet</a>
  */
+@Getter
 public final class MySQLColumnDefinition41Packet implements MySQLPacket {
     
     private static final String CATALOG = "def";
     
     private static final int NEXT_LENGTH = 0x0c;
     
-    @Getter
     private final int sequenceId;
     
     private final int characterSet;
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Raw text result set row packet for MySQL, which payload is received from backend and written to frontend as it is.
+ *
+ * <p>The payload buffer is released by codec after the packet written.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+ */
+@Getter
+public final class MySQLRawTextResultSetRowPacket extends DefaultByteBufHolder implements MySQLPacket {
+    
+    private final int sequenceId;
+    
+    public MySQLRawTextResultSetRowPacket(final int sequenceId, final ByteBuf rawData) {
+        super(rawData);
+        this.sequenceId = sequenceId;
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(content(), content().readerIndex(), content().readableBytes());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class MySQLRawTextResultSetRowPacketTest {
+    
+    @Test
+    public void assertWrite() {
+        ByteBuf rawData = Unpooled.wrappedBuffer(new byte[]{1, 'a', (byte) 0xfb});
+        MySQLRawTextResultSetRowPacket actual = new MySQLRawTextResultSetRowPacket(2, rawData);
+        ByteBuf out = Unpooled.buffer();
+        actual.write(new MySQLPacketPayload(out, StandardCharsets.UTF_8));
+        assertThat(actual.getSequenceId(), is(2));
+        assertThat(out.readableBytes(), is(3));
+        assertThat(out.getByte(1), is((byte) 'a'));
+        assertThat(rawData.readableBytes(), is(3));
+    }
+    
+    @Test
+    public void assertRelease() {
+        ByteBuf rawData = Unpooled.buffer().writeByte(1);
+        assertThat(new MySQLRawTextResultSetRowPacket(2, rawData).release(), is(true));
+        assertThat(rawData.refCnt(), is(0));
+    }
+}
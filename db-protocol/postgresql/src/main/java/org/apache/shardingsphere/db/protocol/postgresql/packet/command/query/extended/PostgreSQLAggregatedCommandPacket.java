@@ -22,79 +22,40 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.RandomAccess;
 
 @Getter
 @ToString
 public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPacket {
     
-    private final List<PostgreSQLCommandPacket> packets;
+    private static final int MIN_BATCHED_STATEMENTS_SIZE = 3;
     
-    private final boolean containsBatchedStatements;
+    private final List<PostgreSQLCommandPacket> packets;
     
-    private final int firstBindIndex;
+    /**
+     * Index ranges of batched statements, key is the index of first bind packet and value is the index of last execute packet.
+     */
+    private final Map<Integer, Integer> batchedStatementsRanges;
     
-    private final int lastExecuteIndex;
+    private final boolean containsBatchedStatements;
     
     public PostgreSQLAggregatedCommandPacket(final List<PostgreSQLCommandPacket> packets) {
         this.packets = packets;
-        int parseTimes = 0;
-        int firstStatementBindTimes = 0;
-        int firstStatementExecuteTimes = 0;
-        String firstStatement = null;
-        String firstPortal = null;
+        BatchedStatementsRangesCollector collector = new BatchedStatementsRangesCollector();
         int index = 0;
-        int firstBindIndex = -1;
-        int lastExecuteIndex = -1;
         for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComParsePacket) {
-                if (++parseTimes > 1) {
-                    break;
-                }
-                if (null == firstStatement) {
-                    firstStatement = ((PostgreSQLComParsePacket) each).getStatementId();
-                } else if (!firstStatement.equals(((PostgreSQLComParsePacket) each).getStatementId())) {
-                    break;
-                }
-            }
-            if (each instanceof PostgreSQLComBindPacket) {
-                if (-1 == firstBindIndex) {
-                    firstBindIndex = index;
-                }
-                if (null == firstStatement) {
-                    firstStatement = ((PostgreSQLComBindPacket) each).getStatementId();
-                } else if (!firstStatement.equals(((PostgreSQLComBindPacket) each).getStatementId())) {
-                    break;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComBindPacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComBindPacket) each).getPortal())) {
-                    break;
-                }
-                firstStatementBindTimes++;
-            }
-            if (each instanceof PostgreSQLComExecutePacket) {
-                if (index > lastExecuteIndex) {
-                    lastExecuteIndex = index;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComExecutePacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
-                    break;
-                }
-                firstStatementExecuteTimes++;
-            }
-            index++;
+            collector.collect(each, index++);
         }
-        this.firstBindIndex = firstBindIndex;
-        this.lastExecuteIndex = lastExecuteIndex;
-        if (this.containsBatchedStatements = firstStatementBindTimes == firstStatementExecuteTimes && firstStatementBindTimes >= 3) {
+        batchedStatementsRanges = collector.finish();
+        if (containsBatchedStatements = !batchedStatementsRanges.isEmpty()) {
             ensureRandomAccessible(packets);
         }
     }
@@ -111,4 +72,69 @@ public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPa
     public PostgreSQLIdentifierTag getIdentifier() {
         return () -> '?';
     }
+    
+    private static final class BatchedStatementsRangesCollector {
+        
+        private final Map<Integer, Integer> result = new LinkedHashMap<>();
+        
+        private String statement;
+        
+        private String portal;
+        
+        private int bindTimes;
+        
+        private int executeTimes;
+        
+        private int firstBindIndex = -1;
+        
+        private int lastExecuteIndex = -1;
+        
+        private void collect(final PostgreSQLCommandPacket packet, final int index) {
+            if (packet instanceof PostgreSQLComBindPacket) {
+                collectBindPacket((PostgreSQLComBindPacket) packet, index);
+            } else if (packet instanceof PostgreSQLComExecutePacket) {
+                collectExecutePacket((PostgreSQLComExecutePacket) packet, index);
+            } else if (!(packet instanceof PostgreSQLComDescribePacket)) {
+                finishCurrentRange();
+            }
+        }
+        
+        private void collectBindPacket(final PostgreSQLComBindPacket bindPacket, final int index) {
+            if (-1 != firstBindIndex && (!statement.equals(bindPacket.getStatementId()) || !portal.equals(bindPacket.getPortal()))) {
+                finishCurrentRange();
+            }
+            if (-1 == firstBindIndex) {
+                firstBindIndex = index;
+                statement = bindPacket.getStatementId();
+                portal = bindPacket.getPortal();
+            }
+            bindTimes++;
+        }
+        
+        private void collectExecutePacket(final PostgreSQLComExecutePacket executePacket, final int index) {
+            if (-1 == firstBindIndex || !portal.equals(executePacket.getPortal())) {
+                finishCurrentRange();
+                return;
+            }
+            executeTimes++;
+            lastExecuteIndex = index;
+        }
+        
+        private void finishCurrentRange() {
+            if (bindTimes == executeTimes && bindTimes >= MIN_BATCHED_STATEMENTS_SIZE) {
+                result.put(firstBindIndex, lastExecuteIndex);
+            }
+            statement = null;
+            portal = null;
+            bindTimes = 0;
+            executeTimes = 0;
+            firstBindIndex = -1;
+            lastExecuteIndex = -1;
+        }
+        
+        private Map<Integer, Integer> finish() {
+            finishCurrentRange();
+            return result;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLAggregatedCommandPacketTest {
+    
+    @Test
+    public void assertBatchedStatementsOfFirstStatement() {
+        PostgreSQLComBindPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getPortal()).thenReturn("");
+        PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.asList(mock(PostgreSQLComParsePacket.class),
+                bindPacket, describePacket, executePacket, bindPacket, executePacket, bindPacket, executePacket, mock(PostgreSQLComSyncPacket.class)));
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedStatementsRanges(), is(Collections.singletonMap(1, 7)));
+    }
+    
+    @Test
+    public void assertBatchedStatementsOfMultipleStatements() {
+        PostgreSQLComBindPacket firstBindPacket = mockBindPacket("S_1");
+        PostgreSQLComBindPacket secondBindPacket = mockBindPacket("S_2");
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getPortal()).thenReturn("");
+        PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.<PostgreSQLCommandPacket>asList(
+                firstBindPacket, executePacket, firstBindPacket, executePacket, firstBindPacket, executePacket,
+                parsePacket, secondBindPacket, executePacket, secondBindPacket, executePacket, secondBindPacket, executePacket, secondBindPacket, executePacket,
+                mock(PostgreSQLComSyncPacket.class)));
+        Map<Integer, Integer> expected = new LinkedHashMap<>(2, 1);
+        expected.put(0, 5);
+        expected.put(7, 14);
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchedStatementsRanges(), is(expected));
+    }
+    
+    @Test
+    public void assertNotBatchedStatementsWithLessBindTimes() {
+        PostgreSQLComBindPacket firstBindPacket = mockBindPacket("S_1");
+        PostgreSQLComBindPacket secondBindPacket = mockBindPacket("S_2");
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getPortal()).thenReturn("");
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.<PostgreSQLCommandPacket>asList(
+                firstBindPacket, executePacket, firstBindPacket, executePacket, secondBindPacket, executePacket, mock(PostgreSQLComSyncPacket.class)));
+        assertFalse(actual.isContainsBatchedStatements());
+        assertTrue(actual.getBatchedStatementsRanges().isEmpty());
+    }
+    
+    private PostgreSQLComBindPacket mockBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+}
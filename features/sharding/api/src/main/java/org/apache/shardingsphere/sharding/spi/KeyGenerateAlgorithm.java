@@ -20,6 +20,9 @@ package org.apache.shardingsphere.sharding.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * Key generate algorithm.
  */
@@ -31,4 +34,18 @@ public interface KeyGenerateAlgorithm extends ShardingSphereAlgorithm, RequiredS
      * @return generated key
      */
     Comparable<?> generateKey();
+    
+    /**
+     * Generate keys.
+     * 
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    default Collection<Comparable<?>> generateKeys(final int keyGenerateCount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount);
+        for (int i = 0; i < keyGenerateCount; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
 }
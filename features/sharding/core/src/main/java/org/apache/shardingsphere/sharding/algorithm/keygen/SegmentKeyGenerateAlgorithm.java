@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>
+ * Segments of continuous keys are leased from the mode repository, and keys are handed out from the current segment in memory without locking.
+ * The next segment is leased asynchronously once 10 percent of the current segment is handed out, so switching segments rarely waits for the repository.
+ * Only cluster mode is supported, because the registry center is the only repository shared by all compute nodes and kept across restarts.
+ * </p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
+    
+    private static final String SEGMENT_NAME_KEY = "segment-name";
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String DEFAULT_SEGMENT_NAME = "default";
+    
+    private static final long DEFAULT_STEP = 1000L;
+    
+    private static final ExecutorService LEASE_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("key-segment-lease-%d"));
+    
+    @Getter
+    private Properties props;
+    
+    private String segmentName;
+    
+    private long step;
+    
+    private volatile InstanceContext instanceContext;
+    
+    private volatile KeySegment currentSegment;
+    
+    private CompletableFuture<KeySegment> nextSegment;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        segmentName = props.getProperty(SEGMENT_NAME_KEY, DEFAULT_SEGMENT_NAME);
+        step = getStep(props);
+    }
+    
+    private long getStep(final Properties props) {
+        long result = Long.parseLong(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        Preconditions.checkArgument(result > 0L, "Step of key segment must be positive.");
+        return result;
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        Preconditions.checkState(null == instanceContext || instanceContext.isCluster(),
+                "Key segment `%s` requires cluster mode, keys leased in standalone mode are neither durable across restarts nor exclusive across processes.", segmentName);
+        this.instanceContext = instanceContext;
+    }
+    
+    @Override
+    public Long generateKey() {
+        KeySegment segment = null == currentSegment ? switchSegment(null) : currentSegment;
+        long result = segment.nextKey();
+        while (result < 0L) {
+            segment = switchSegment(segment);
+            result = segment.nextKey();
+        }
+        if (result == segment.prefetchKey) {
+            prefetchNextSegment();
+        }
+        return result;
+    }
+    
+    private synchronized KeySegment switchSegment(final KeySegment exhaustedSegment) {
+        if (currentSegment == exhaustedSegment) {
+            CompletableFuture<KeySegment> leasingSegment = nextSegment;
+            nextSegment = null;
+            currentSegment = null == leasingSegment ? leaseSegment() : leasingSegment.join();
+        }
+        return currentSegment;
+    }
+    
+    private synchronized void prefetchNextSegment() {
+        if (null == nextSegment) {
+            nextSegment = CompletableFuture.supplyAsync(this::leaseSegment, LEASE_EXECUTOR);
+        }
+    }
+    
+    private KeySegment leaseSegment() {
+        Preconditions.checkState(null != instanceContext, "Instance context is required to lease key segment `%s`.", segmentName);
+        return new KeySegment(instanceContext.allocateKeySegment(segmentName, step), step);
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+    
+    private static final class KeySegment {
+        
+        private final AtomicLong nextKey;
+        
+        private final long maxKey;
+        
+        private final long prefetchKey;
+        
+        KeySegment(final long firstKey, final long step) {
+            nextKey = new AtomicLong(firstKey);
+            maxKey = firstKey + step;
+            prefetchKey = firstKey + step / 10L;
+        }
+        
+        long nextKey() {
+            long result = nextKey.getAndIncrement();
+            return result < maxKey ? result : -1L;
+        }
+    }
+}
@@ -25,8 +25,11 @@ import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -38,6 +41,11 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ * Last milliseconds and sequence are packed into one atomic long, sequences are reserved by compare and set without locking,
+ * and continuous sequences are reserved at once when generating keys in batch.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -73,11 +81,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMilliseconds;
     
-    private volatile int sequenceOffset = -1;
-    
-    private volatile long sequence;
+    private final AtomicLong lastMillisecondsAndSequence = new AtomicLong();
     
-    private volatile long lastMilliseconds;
+    private volatile int sequenceOffset = -1;
     
     private volatile InstanceContext instanceContext;
     
@@ -117,25 +123,65 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Long generateKey() {
+    public Long generateKey() {
+        return toKey(reserveSequences(1), getWorkerId());
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int keyGenerateCount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount);
+        int workerId = getWorkerId();
+        while (result.size() < keyGenerateCount) {
+            int remainingCount = keyGenerateCount - result.size();
+            long firstMillisecondsAndSequence = reserveSequences(remainingCount);
+            long reservedCount = getReservedCount(firstMillisecondsAndSequence, remainingCount);
+            for (long i = 0; i < reservedCount; i++) {
+                result.add(toKey(firstMillisecondsAndSequence + i, workerId));
+            }
+        }
+        return result;
+    }
+    
+    private long reserveSequences(final int maxCount) {
+        long result;
+        do {
+            result = tryReserveSequences(maxCount);
+        } while (result < 0L);
+        return result;
+    }
+    
+    private long tryReserveSequences(final int maxCount) {
+        long lastState = lastMillisecondsAndSequence.get();
+        long lastMilliseconds = lastState >>> SEQUENCE_BITS;
         long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
+        if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
             currentMilliseconds = timeService.getCurrentMillis();
         }
+        int nextSequenceOffset = sequenceOffset;
+        long result;
         if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
-            }
+            result = (lastState & SEQUENCE_MASK) < SEQUENCE_MASK ? lastState + 1L : waitUntilNextTime(currentMilliseconds) << SEQUENCE_BITS;
         } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
+            nextSequenceOffset = nextSequenceOffset >= maxVibrationOffset ? 0 : nextSequenceOffset + 1;
+            result = currentMilliseconds << SEQUENCE_BITS | nextSequenceOffset;
+        }
+        if (!lastMillisecondsAndSequence.compareAndSet(lastState, result + getReservedCount(result, maxCount) - 1L)) {
+            return -1L;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+        sequenceOffset = nextSequenceOffset;
+        return result;
+    }
+    
+    private long getReservedCount(final long firstMillisecondsAndSequence, final int maxCount) {
+        return Math.min(maxCount, SEQUENCE_MASK + 1L - (firstMillisecondsAndSequence & SEQUENCE_MASK));
+    }
+    
+    private long toKey(final long millisecondsAndSequence, final int workerId) {
+        return (((millisecondsAndSequence >>> SEQUENCE_BITS) - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) workerId << WORKER_ID_LEFT_SHIFT_BITS) | (millisecondsAndSequence & SEQUENCE_MASK);
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -154,11 +200,6 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    @SuppressWarnings("NonAtomicOperationOnVolatileField")
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
-    }
-    
     private int getWorkerId() {
         return null == instanceContext ? DEFAULT_WORKER_ID : instanceContext.getWorkerId();
     }
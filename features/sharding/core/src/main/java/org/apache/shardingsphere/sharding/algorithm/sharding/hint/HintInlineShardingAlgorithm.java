@@ -21,11 +21,15 @@ import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionCompiler;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -45,10 +49,13 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = InlineExpressionCompiler.compile(algorithmExpression).orElse(null);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -63,6 +70,12 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     }
     
     private String doSharding(final Comparable<?> shardingValue) {
+        if (null != compiledAlgorithmExpression) {
+            Optional<String> result = compiledAlgorithmExpression.evaluate(Collections.singletonMap(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue));
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         Closure<?> closure = createClosure();
         closure.setProperty(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
         return closure.call().toString();
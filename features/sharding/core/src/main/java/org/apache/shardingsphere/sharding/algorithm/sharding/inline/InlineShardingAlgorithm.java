@@ -24,6 +24,8 @@ import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionCompiler;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -31,6 +33,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -47,12 +51,15 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = InlineExpressionCompiler.compile(algorithmExpression).orElse(null);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -68,8 +75,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
         Comparable<?> value = shardingValue.getValue();
+        if (null != compiledAlgorithmExpression) {
+            Optional<String> result = compiledAlgorithmExpression.evaluate(Collections.singletonMap(shardingValue.getColumnName(), value));
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> closure = createClosure();
         closure.setProperty(shardingValue.getColumnName(), value);
         return getTargetShardingNode(closure, shardingValue.getColumnName());
     }
@@ -55,4 +55,9 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
         }
         return hasNext;
     }
+    
+    @Override
+    public boolean isPassThrough() {
+        return true;
+    }
 }
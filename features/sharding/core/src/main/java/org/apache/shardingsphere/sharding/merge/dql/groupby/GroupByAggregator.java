@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Group by aggregator, which holds first row and aggregation units of each group in memory.
+ */
+@RequiredArgsConstructor
+public final class GroupByAggregator {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final List<Boolean> valueCaseSensitive;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private Map<AggregationProjection, Boolean> integralAggregations;
+    
+    /**
+     * Judge whether group has been aggregated.
+     *
+     * @param groupByValue group by value
+     * @return group has been aggregated or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int getGroupCount() {
+        return dataMap.size();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        initForFirstGroupByValue(queryResult, groupByValue);
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationUnits.get(each).merge(aggregationValues);
+        }
+    }
+    
+    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (!dataMap.containsKey(groupByValue)) {
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        }
+        if (!aggregationMap.containsKey(groupByValue)) {
+            Map<AggregationProjection, Boolean> integralFlags = getIntegralAggregations(queryResult);
+            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(),
+                    input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, integralFlags.get(input)));
+            aggregationMap.put(groupByValue, map);
+        }
+    }
+    
+    private Map<AggregationProjection, Boolean> getIntegralAggregations(final QueryResult queryResult) throws SQLException {
+        if (null == integralAggregations) {
+            integralAggregations = new HashMap<>();
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                integralAggregations.put(each, AggregationUnitFactory.isIntegral(each, queryResult.getMetaData()));
+            }
+        }
+        return integralAggregations;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregated rows sorted by order by items, or group by items if no order by items.
+     *
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getResultRows() {
+        setAggregationValueToMemoryRow();
+        if (dataMap.isEmpty()) {
+            Object[] data = generateReturnData();
+            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return result;
+    }
+    
+    private void setAggregationValueToMemoryRow() {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            }
+        }
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get value case sensitive of each column, the first element is placeholder for column index 0.
+     *
+     * @param queryResults query results
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return value case sensitive of each column
+     * @throws SQLException SQL exception
+     */
+    public static List<Boolean> getValueCaseSensitive(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                      final ShardingSphereSchema schema) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return Collections.emptyList();
+        }
+        QueryResult queryResult = queryResults.iterator().next();
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, selectStatementContext, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSphereTable table = schema.getTable(tableName);
+            Map<String, ShardingSphereColumn> columns = table.getColumns();
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+}
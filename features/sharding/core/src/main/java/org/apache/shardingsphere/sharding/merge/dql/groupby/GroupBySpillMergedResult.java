@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileReader;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Group by merged result which spills to disk when group count exceeds memory budget.
+ *
+ * <p>
+ * Groups are aggregated in memory until the budget is reached, rows of groups which are not in memory are hashed into partitions and spilled to temp files.
+ * Each partition is aggregated in turn, and re-partitioned with other hash bits if it still exceeds the budget.
+ * Aggregated rows of each partition are sorted and spilled as sorted runs, which are merged in streaming at last.
+ * Sorted runs which are not consumed completely are released by {@link #close()}.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_LEVEL = 3;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxMemoryGroups;
+    
+    private final List<Boolean> valueCaseSensitive;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean isFirstNext = true;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryGroups) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryGroups = maxMemoryGroups;
+        valueCaseSensitive = GroupByAggregator.getValueCaseSensitive(queryResults, selectStatementContext, schema);
+        metaData = queryResults.isEmpty() ? null : queryResults.get(0).getMetaData();
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> comparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            aggregate(queryResults, 0);
+        } catch (final IOException ex) {
+            closeSortedRuns();
+            throw new SQLException(ex);
+        } catch (final SQLException ex) {
+            closeSortedRuns();
+            throw ex;
+        }
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int level) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, valueCaseSensitive);
+        SpillFileWriter[] partitionWriters = new SpillFileWriter[PARTITION_COUNT];
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                    if (aggregator.contains(groupByValue) || aggregator.getGroupCount() < maxMemoryGroups || level >= MAX_SPILL_LEVEL) {
+                        aggregator.aggregate(each, groupByValue);
+                    } else {
+                        spill(each, getPartitionWriter(partitionWriters, getPartition(groupByValue, level)));
+                    }
+                }
+            }
+        } catch (final IOException | SQLException ex) {
+            closeAndDeletePartitions(partitionWriters);
+            throw ex;
+        } finally {
+            closePartitionWriters(partitionWriters);
+        }
+        List<MemoryQueryResultRow> rows = aggregator.getResultRows();
+        if (0 == level && isAllEmpty(partitionWriters)) {
+            memoryRows = rows.iterator();
+            return;
+        }
+        addSortedRun(rows);
+        aggregatePartitions(partitionWriters, level);
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int level) {
+        int hash = groupByValue.hashCode() * 0x9E3779B9;
+        return ((hash ^ hash >>> 16) >>> (level * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    private SpillFileWriter getPartitionWriter(final SpillFileWriter[] partitionWriters, final int partition) throws IOException {
+        if (null == partitionWriters[partition]) {
+            partitionWriters[partition] = new SpillFileWriter();
+        }
+        return partitionWriters[partition];
+    }
+    
+    private void spill(final QueryResult queryResult, final SpillFileWriter writer) throws SQLException, IOException {
+        Object[] row = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        writer.write(row);
+    }
+    
+    private boolean isAllEmpty(final SpillFileWriter[] partitionWriters) {
+        for (SpillFileWriter each : partitionWriters) {
+            if (null != each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void addSortedRun(final List<MemoryQueryResultRow> rows) throws SQLException, IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Path file;
+        try (SpillFileWriter writer = new SpillFileWriter()) {
+            file = writer.getFile();
+            for (MemoryQueryResultRow each : rows) {
+                Object[] row = new Object[metaData.getColumnCount()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = each.getCell(i + 1);
+                }
+                writer.write(row);
+            }
+        }
+        SortedRun sortedRun = new SortedRun(new SpillFileReader(file));
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        }
+    }
+    
+    private void aggregatePartitions(final SpillFileWriter[] partitionWriters, final int level) throws SQLException, IOException {
+        for (int i = 0; i < partitionWriters.length; i++) {
+            if (null == partitionWriters[i]) {
+                continue;
+            }
+            SpillFileQueryResult partition = new SpillFileQueryResult(metaData, new SpillFileReader(partitionWriters[i].getFile()));
+            partitionWriters[i] = null;
+            try {
+                aggregate(Collections.singletonList(partition), level + 1);
+            } catch (final IOException | SQLException ex) {
+                closeAndDeletePartitions(partitionWriters);
+                throw ex;
+            } finally {
+                partition.close();
+            }
+        }
+    }
+    
+    private void closePartitionWriters(final SpillFileWriter[] partitionWriters) throws IOException {
+        for (SpillFileWriter each : partitionWriters) {
+            if (null != each) {
+                each.close();
+            }
+        }
+    }
+    
+    private void closeAndDeletePartitions(final SpillFileWriter[] partitionWriters) {
+        for (SpillFileWriter each : partitionWriters) {
+            if (null != each) {
+                try {
+                    each.close();
+                    Files.deleteIfExists(each.getFile());
+                } catch (final IOException ignored) {
+                }
+            }
+        }
+    }
+    
+    private void closeSortedRuns() {
+        for (SortedRun each : sortedRuns) {
+            each.close();
+        }
+        sortedRuns.clear();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        if (!isFirstNext && !sortedRuns.isEmpty()) {
+            SortedRun sortedRun = sortedRuns.poll();
+            try {
+                if (sortedRun.next()) {
+                    sortedRuns.offer(sortedRun);
+                }
+            } catch (final IOException ex) {
+                sortedRun.close();
+                closeSortedRuns();
+                throw new SQLException(ex);
+            }
+        }
+        isFirstNext = false;
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        currentRow = sortedRuns.peek().getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(Blob.class != type && Clob.class != type && Reader.class != type && InputStream.class != type && SQLXML.class != type,
+                () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        closeSortedRuns();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRun {
+        
+        private final SpillFileReader reader;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() throws IOException {
+            Optional<Object[]> row = reader.read();
+            if (row.isPresent()) {
+                currentRow = new MemoryQueryResultRow(row.get());
+                return true;
+            }
+            reader.close();
+            return false;
+        }
+        
+        void close() {
+            try {
+                reader.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+}
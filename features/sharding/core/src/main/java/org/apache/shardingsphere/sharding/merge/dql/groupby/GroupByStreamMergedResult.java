@@ -32,6 +32,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,6 +46,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final Map<AggregationProjection, Boolean> integralAggregations;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
@@ -52,15 +57,24 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        integralAggregations = getIntegralAggregations(queryResults);
+        currentGroupByValues = getOrderByHeap().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
     
+    private Map<AggregationProjection, Boolean> getIntegralAggregations(final List<QueryResult> queryResults) throws SQLException {
+        Map<AggregationProjection, Boolean> result = new HashMap<>();
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, !queryResults.isEmpty() && AggregationUnitFactory.isIntegral(each, queryResults.get(0).getMetaData()));
+        }
+        return result;
+    }
+    
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByHeap().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -76,7 +90,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         boolean result = false;
         boolean cachedRow = false;
         Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+                selectStatementContext.getProjectionsContext().getAggregationProjections(),
+                input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, integralAggregations.get(input)));
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
             aggregate(aggregationUnitMap);
             if (!cachedRow) {
@@ -94,15 +109,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
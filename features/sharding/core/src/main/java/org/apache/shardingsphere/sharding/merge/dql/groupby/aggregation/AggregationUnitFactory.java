@@ -19,9 +19,14 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  */
@@ -36,21 +41,83 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isIntegral whether aggregation values are integral, accumulate in primitive long if true
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isIntegral) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctSumAggregationUnit();
+                }
+                return isIntegral ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctCountAggregationUnit();
+                }
+                return isIntegral ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                if (isDistinct) {
+                    return new DistinctAverageAggregationUnit();
+                }
+                return isIntegral ? new LongAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
                 return new BitXorAggregationUnit();
             default:
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Judge whether values of aggregation projection are integral by column types of query result.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param queryResultMetaData query result meta data
+     * @return values of aggregation projection are integral or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isIntegral(final AggregationProjection aggregationProjection, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        if (AggregationType.COUNT == aggregationProjection.getType()) {
+            return true;
+        }
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return isIntegralColumn(queryResultMetaData, aggregationProjection.getIndex());
+        }
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            if (!isIntegral(each, queryResultMetaData)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isIntegralColumn(final QueryResultMetaData queryResultMetaData, final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > queryResultMetaData.getColumnCount()) {
+            return false;
+        }
+        switch (queryResultMetaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return 0 == queryResultMetaData.getDecimals(columnIndex);
+            default:
+                return false;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ *
+ * <p>
+ * Values are accumulated in primitive long, and switched to big decimal when overflow or non integral value merged.
+ * </p>
+ */
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private static final int MAX_LONG_PRECISION = 18;
+    
+    private boolean hasValue;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        accumulate(values.get(0));
+    }
+    
+    /**
+     * Accumulate value.
+     *
+     * @param value value to be accumulated, can not be null
+     */
+    public void accumulate(final Comparable<?> value) {
+        if (null == decimalResult && isLongValue(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = longResult + addend;
+            if (((longResult ^ sum) & (addend ^ sum)) >= 0) {
+                longResult = sum;
+                hasValue = true;
+                return;
+            }
+        }
+        if (null == decimalResult) {
+            decimalResult = hasValue ? BigDecimal.valueOf(longResult) : BigDecimal.ZERO;
+        }
+        decimalResult = decimalResult.add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    
+    private boolean isLongValue(final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return true;
+        }
+        if (value instanceof BigDecimal) {
+            return 0 == ((BigDecimal) value).scale() && ((BigDecimal) value).precision() <= MAX_LONG_PRECISION;
+        }
+        return value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (null != decimalResult) {
+            return decimalResult;
+        }
+        return hasValue ? BigDecimal.valueOf(longResult) : null;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Average aggregation unit for integral values, which accumulates count and sum in primitive long.
+ * The result keeps the same scale as {@link AverageAggregationUnit}.
+ */
+public final class LongAverageAggregationUnit implements AggregationUnit {
+    
+    private final LongAccumulationAggregationUnit count = new LongAccumulationAggregationUnit();
+    
+    private final LongAccumulationAggregationUnit sum = new LongAccumulationAggregationUnit();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        count.accumulate(values.get(0));
+        sum.accumulate(values.get(1));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        BigDecimal countResult = (BigDecimal) count.getResult();
+        if (null == countResult || BigDecimal.ZERO.equals(countResult)) {
+            return countResult;
+        }
+        return ((BigDecimal) sum.getResult()).divide(countResult, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Optional;
+
+/**
+ * Query result which reads rows from spill file.
+ */
+public final class SpillFileQueryResult extends AbstractStreamQueryResult {
+    
+    private final SpillFileReader reader;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public SpillFileQueryResult(final QueryResultMetaData metaData, final SpillFileReader reader) {
+        super(metaData);
+        this.reader = reader;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            Optional<Object[]> row = reader.read();
+            currentRow = row.orElse(null);
+            return row.isPresent();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            reader.close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Spill file reader, the spill file will be deleted after reader closed.
+ */
+public final class SpillFileReader implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path file;
+    
+    private final DataInputStream input;
+    
+    public SpillFileReader(final Path file) throws IOException {
+        this.file = file;
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, empty if reach end of spill file
+     * @throws IOException IO exception
+     */
+    public Optional<Object[]> read() throws IOException {
+        if (SpillFileWriter.ROW_MARKER != input.read()) {
+            return Optional.empty();
+        }
+        Object[] result = new Object[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = SpillValueCodec.read(input);
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            input.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file writer.
+ */
+public final class SpillFileWriter implements AutoCloseable {
+    
+    static final byte ROW_MARKER = 1;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    @Getter
+    private final Path file;
+    
+    private final DataOutputStream output;
+    
+    public SpillFileWriter() throws IOException {
+        file = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        output.writeByte(ROW_MARKER);
+        output.writeInt(row.length);
+        for (Object each : row) {
+            SpillValueCodec.write(output, each);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
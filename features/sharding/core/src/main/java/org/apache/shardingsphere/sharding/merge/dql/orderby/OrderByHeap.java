@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Heap for order by.
+ *
+ * <p>
+ * The heap keeps indexes of query results which still have rows, and compares them by the sort keys held in {@link OrderBySortKeys},
+ * so no value object is allocated per row.
+ * Sift up and sift down follow {@link java.util.PriorityQueue}, so rows with equal sort keys are merged in the same order as a priority queue of query results.
+ * </p>
+ */
+public final class OrderByHeap {
+    
+    private final List<QueryResult> queryResults;
+    
+    private final OrderBySortKeys sortKeys;
+    
+    private final int[] heap;
+    
+    private int size;
+    
+    public OrderByHeap(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems,
+                       final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this.queryResults = queryResults;
+        sortKeys = new OrderBySortKeys(queryResults, orderByItems, selectStatementContext, schema);
+        heap = new int[queryResults.size()];
+        for (int i = 0; i < queryResults.size(); i++) {
+            offerIfHasNext(i);
+        }
+    }
+    
+    private void offerIfHasNext(final int queryResultIndex) throws SQLException {
+        if (!queryResults.get(queryResultIndex).next()) {
+            return;
+        }
+        sortKeys.load(queryResultIndex);
+        siftUp(size++, queryResultIndex);
+    }
+    
+    private void siftUp(final int position, final int queryResultIndex) {
+        int current = position;
+        while (current > 0) {
+            int parent = (current - 1) >>> 1;
+            if (sortKeys.compare(queryResultIndex, heap[parent]) >= 0) {
+                break;
+            }
+            heap[current] = heap[parent];
+            current = parent;
+        }
+        heap[current] = queryResultIndex;
+    }
+    
+    private void siftDown(final int position, final int queryResultIndex) {
+        int current = position;
+        int half = size >>> 1;
+        while (current < half) {
+            int child = (current << 1) + 1;
+            int right = child + 1;
+            if (right < size && sortKeys.compare(heap[child], heap[right]) > 0) {
+                child = right;
+            }
+            if (sortKeys.compare(queryResultIndex, heap[child]) <= 0) {
+                break;
+            }
+            heap[current] = heap[child];
+            current = child;
+        }
+        heap[current] = queryResultIndex;
+    }
+    
+    /**
+     * Judge whether all query results are exhausted.
+     *
+     * @return all query results are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Get first query result, which current row is the first one in order.
+     *
+     * @return first query result
+     */
+    public QueryResult getFirst() {
+        return queryResults.get(heap[0]);
+    }
+    
+    /**
+     * Advance first query result and put it back if it still has rows.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int first = heap[0];
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size]);
+        }
+        offerIfHasNext(first);
+    }
+}
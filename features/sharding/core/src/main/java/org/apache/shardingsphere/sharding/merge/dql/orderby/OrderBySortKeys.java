@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Order by sort keys.
+ *
+ * <p>
+ * Sort keys of the current rows of all query results are kept in flat arrays and refilled in place when a query result advances.
+ * Keys of integral, floating point and temporal columns are kept as primitives too, so comparing them needs neither boxing nor {@code compareTo} dispatch.
+ * Other keys, and keys which runtime types do not match column types, are compared by {@link CompareUtil}.
+ * </p>
+ */
+public final class OrderBySortKeys {
+    
+    private static final byte OBJECT_KEY = 0;
+    
+    private static final byte LONG_KEY = 1;
+    
+    private static final byte DOUBLE_KEY = 2;
+    
+    private static final byte TEMPORAL_KEY = 3;
+    
+    private static final int NANOS_PER_MILLISECOND = 1000000;
+    
+    private final List<QueryResult> queryResults;
+    
+    private final int itemCount;
+    
+    private final int[] columnIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final byte[] expectedKeyKinds;
+    
+    private final boolean[] caseSensitives;
+    
+    private final byte[] keyKinds;
+    
+    private final Comparable<?>[] values;
+    
+    private final long[] longKeys;
+    
+    private final int[] nanoKeys;
+    
+    private final double[] doubleKeys;
+    
+    public OrderBySortKeys(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems,
+                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this.queryResults = queryResults;
+        itemCount = orderByItems.size();
+        columnIndexes = new int[itemCount];
+        orderDirections = new OrderDirection[itemCount];
+        nullOrderDirections = new OrderDirection[itemCount];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            columnIndexes[index] = each.getIndex();
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullOrderDirections[index] = each.getSegment().getNullOrderDirection();
+            index++;
+        }
+        int slotCount = queryResults.size() * itemCount;
+        expectedKeyKinds = new byte[slotCount];
+        caseSensitives = new boolean[slotCount];
+        keyKinds = new byte[slotCount];
+        values = new Comparable<?>[slotCount];
+        longKeys = new long[slotCount];
+        nanoKeys = new int[slotCount];
+        doubleKeys = new double[slotCount];
+        for (int i = 0; i < queryResults.size(); i++) {
+            initSlots(i, orderByItems, selectStatementContext, schema);
+        }
+    }
+    
+    private void initSlots(final int queryResultIndex, final Collection<OrderByItem> orderByItems,
+                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        QueryResult queryResult = queryResults.get(queryResultIndex);
+        List<Boolean> orderValuesCaseSensitive = OrderByValue.getOrderValuesCaseSensitive(queryResult, orderByItems, selectStatementContext, schema);
+        QueryResultMetaData metaData = queryResult.getMetaData();
+        int offset = queryResultIndex * itemCount;
+        for (int i = 0; i < itemCount; i++) {
+            caseSensitives[offset + i] = orderValuesCaseSensitive.get(i);
+            expectedKeyKinds[offset + i] = null == metaData ? OBJECT_KEY : getExpectedKeyKind(metaData.getColumnType(columnIndexes[i]));
+        }
+    }
+    
+    private byte getExpectedKeyKind(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return LONG_KEY;
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return DOUBLE_KEY;
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return TEMPORAL_KEY;
+            default:
+                return OBJECT_KEY;
+        }
+    }
+    
+    /**
+     * Load sort keys from current row of query result.
+     *
+     * @param queryResultIndex index of query result
+     * @throws SQLException SQL exception
+     */
+    public void load(final int queryResultIndex) throws SQLException {
+        QueryResult queryResult = queryResults.get(queryResultIndex);
+        int offset = queryResultIndex * itemCount;
+        for (int i = 0; i < itemCount; i++) {
+            Object value = queryResult.getValue(columnIndexes[i], Object.class);
+            Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
+            loadSlot(offset + i, value);
+        }
+    }
+    
+    private void loadSlot(final int slot, final Object value) {
+        byte expectedKeyKind = expectedKeyKinds[slot];
+        if (LONG_KEY == expectedKeyKind && (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            keyKinds[slot] = LONG_KEY;
+            longKeys[slot] = ((Number) value).longValue();
+        } else if (DOUBLE_KEY == expectedKeyKind && (value instanceof Double || value instanceof Float)) {
+            keyKinds[slot] = DOUBLE_KEY;
+            doubleKeys[slot] = ((Number) value).doubleValue();
+        } else if (TEMPORAL_KEY == expectedKeyKind && value instanceof Date) {
+            keyKinds[slot] = TEMPORAL_KEY;
+            longKeys[slot] = ((Date) value).getTime();
+            nanoKeys[slot] = value instanceof Timestamp ? ((Timestamp) value).getNanos() % NANOS_PER_MILLISECOND : 0;
+        } else {
+            keyKinds[slot] = OBJECT_KEY;
+        }
+        values[slot] = !caseSensitives[slot] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
+    }
+    
+    /**
+     * Compare sort keys of current rows of two query results.
+     *
+     * @param thisQueryResultIndex index of this query result
+     * @param otherQueryResultIndex index of other query result
+     * @return compare result
+     */
+    public int compare(final int thisQueryResultIndex, final int otherQueryResultIndex) {
+        int thisOffset = thisQueryResultIndex * itemCount;
+        int otherOffset = otherQueryResultIndex * itemCount;
+        for (int i = 0; i < itemCount; i++) {
+            int result = compareSlot(thisOffset + i, otherOffset + i, i);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private int compareSlot(final int thisSlot, final int otherSlot, final int itemIndex) {
+        byte keyKind = keyKinds[thisSlot];
+        if (OBJECT_KEY == keyKind || keyKind != keyKinds[otherSlot]) {
+            return CompareUtil.compareTo(values[thisSlot], values[otherSlot], orderDirections[itemIndex], nullOrderDirections[itemIndex], true);
+        }
+        int result;
+        if (DOUBLE_KEY == keyKind) {
+            result = Double.compare(doubleKeys[thisSlot], doubleKeys[otherSlot]);
+        } else {
+            result = Long.compare(longKeys[thisSlot], longKeys[otherSlot]);
+            if (0 == result && TEMPORAL_KEY == keyKind) {
+                result = Integer.compare(nanoKeys[thisSlot], nanoKeys[otherSlot]);
+            }
+        }
+        return OrderDirection.ASC == orderDirections[itemIndex] ? result : -result;
+    }
+}
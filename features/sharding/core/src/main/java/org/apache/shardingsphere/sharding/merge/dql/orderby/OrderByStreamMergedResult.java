@@ -23,61 +23,41 @@ import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
-import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
-import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
-    private final Collection<OrderByItem> orderByItems;
-    
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByHeap orderByHeap;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults, selectStatementContext, schema);
+        orderByHeap = new OrderByHeap(queryResults, selectStatementContext.getOrderByContext().getItems(), selectStatementContext, schema);
+        setCurrentQueryResult(orderByHeap.isEmpty() ? queryResults.get(0) : orderByHeap.getFirst());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        for (QueryResult each : queryResults) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
-            if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
-            }
-        }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
-    }
-    
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByHeap.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
-        if (orderByValuesQueue.isEmpty()) {
+        orderByHeap.next();
+        if (orderByHeap.isEmpty()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByHeap.getFirst());
         return true;
     }
 }
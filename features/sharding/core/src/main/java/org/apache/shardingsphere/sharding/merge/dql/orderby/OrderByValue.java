@@ -55,19 +55,30 @@ public final class OrderByValue implements Comparable<OrderByValue> {
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
-        orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderValuesCaseSensitive = getOrderValuesCaseSensitive(queryResult, orderByItems, selectStatementContext, schema);
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    /**
+     * Get case sensitive flags of order by values.
+     *
+     * @param queryResult query result
+     * @param orderByItems order by items
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return case sensitive flags, which are in the same order of order by items
+     * @throws SQLException SQL exception
+     */
+    public static List<Boolean> getOrderValuesCaseSensitive(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
+                                                            final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>(orderByItems.size());
         for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(selectStatementContext, schema, eachOrderByItem));
+            result.add(getOrderValuesCaseSensitiveFromTables(queryResult, selectStatementContext, schema, eachOrderByItem));
         }
         return result;
     }
     
-    private boolean getOrderValuesCaseSensitiveFromTables(final SelectStatementContext selectStatementContext,
-                                                          final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
+    private static boolean getOrderValuesCaseSensitiveFromTables(final QueryResult queryResult, final SelectStatementContext selectStatementContext,
+                                                                 final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
         for (SimpleTableSegment eachSimpleTableSegment : selectStatementContext.getAllTables()) {
             String tableName = eachSimpleTableSegment.getTableName().getIdentifier().getValue();
             ShardingSphereTable table = schema.getTable(tableName);
@@ -614,10 +614,24 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int keyGenerateCount) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(keyGenerateCount);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         ShardingSpherePreconditions.checkState(tableRule.isPresent(), () -> new GenerateKeyStrategyNotFoundException(logicTableName));
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SegmentKeyGenerateAlgorithmTest {
+    
+    @Test
+    public void assertGenerateKeyInLeasedSegments() {
+        InstanceContext instanceContext = mockClusterInstanceContext();
+        when(instanceContext.allocateKeySegment("t_order_id", 2L)).thenReturn(1L, 11L, 21L);
+        KeyGenerateAlgorithm algorithm = createAlgorithm("t_order_id", 2, instanceContext);
+        List<Comparable<?>> actual = new ArrayList<>(5);
+        for (int i = 0; i < 5; i++) {
+            actual.add(algorithm.generateKey());
+        }
+        assertThat(actual, is(Arrays.<Comparable<?>>asList(1L, 2L, 11L, 12L, 21L)));
+    }
+    
+    @Test
+    public void assertPrefetchNextSegment() {
+        InstanceContext instanceContext = mockClusterInstanceContext();
+        when(instanceContext.allocateKeySegment("default", 10L)).thenReturn(1L, 11L);
+        KeyGenerateAlgorithm algorithm = createAlgorithm(null, 10, instanceContext);
+        assertThat(algorithm.generateKey(), is(1L));
+        assertThat(algorithm.generateKey(), is(2L));
+        verify(instanceContext, timeout(5000L).times(2)).allocateKeySegment("default", 10L);
+        for (int i = 3; i <= 10; i++) {
+            assertThat(algorithm.generateKey(), is((long) i));
+        }
+        assertThat(algorithm.generateKey(), is(11L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        InstanceContext instanceContext = mockClusterInstanceContext();
+        AtomicLong nextKey = new AtomicLong(1L);
+        when(instanceContext.allocateKeySegment(anyString(), anyLong())).thenAnswer(invocation -> nextKey.getAndAdd(invocation.getArgument(1)));
+        KeyGenerateAlgorithm algorithm = createAlgorithm(null, 100, instanceContext);
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> {
+                List<Comparable<?>> result = new ArrayList<>(1000);
+                for (int j = 0; j < 1000; j++) {
+                    result.add(algorithm.generateKey());
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * 1000, 1);
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithoutInstanceContext() {
+        KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SEGMENT", new Properties())).generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWhenStepIsNotPositive() {
+        createAlgorithm(null, 0, mockClusterInstanceContext());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertSetInstanceContextFailureInStandaloneMode() {
+        createAlgorithm(null, 10, mock(InstanceContext.class));
+    }
+    
+    private InstanceContext mockClusterInstanceContext() {
+        InstanceContext result = mock(InstanceContext.class);
+        when(result.isCluster()).thenReturn(true);
+        return result;
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm(final String segmentName, final int step, final InstanceContext instanceContext) {
+        Properties props = new Properties();
+        if (null != segmentName) {
+            props.setProperty("segment-name", segmentName);
+        }
+        props.setProperty("step", String.valueOf(step));
+        KeyGenerateAlgorithm result = KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SEGMENT", props));
+        ((InstanceContextAware) result).setInstanceContext(instanceContext);
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -35,6 +36,7 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -43,6 +45,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -189,24 +193,71 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        assertThat(algorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(algorithm.generateKey(), is(4194305L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        setLastMilliseconds(algorithm, timeService.getCurrentMillis());
+        setSequence(algorithm, (1 << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(algorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber * 4;
+        KeyGenerateAlgorithm algorithm = KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SNOWFLAKE", new Properties()));
+        List<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(500)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * 500, 1);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 500));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(algorithm, value);
+    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final long value) {
+        AtomicLong lastMillisecondsAndSequence = getLastMillisecondsAndSequence(algorithm);
+        lastMillisecondsAndSequence.set(value << DEFAULT_SEQUENCE_BITS | lastMillisecondsAndSequence.get() & ((1 << DEFAULT_SEQUENCE_BITS) - 1));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(algorithm, value);
+    private void setSequence(final KeyGenerateAlgorithm algorithm, final long value) {
+        AtomicLong lastMillisecondsAndSequence = getLastMillisecondsAndSequence(algorithm);
+        lastMillisecondsAndSequence.set(lastMillisecondsAndSequence.get() >>> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS | value);
+    }
+    
+    private AtomicLong getLastMillisecondsAndSequence(final KeyGenerateAlgorithm algorithm) throws ReflectiveOperationException {
+        Field field = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisecondsAndSequence");
+        field.setAccessible(true);
+        return (AtomicLong) field.get(algorithm);
     }
     
     @Test(expected = IllegalArgumentException.class)
     public void assertSetWorkerIdFailureWhenNegative() {
         SnowflakeKeyGenerateAlgorithm algorithm = (SnowflakeKeyGenerateAlgorithm) KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SNOWFLAKE", new Properties()));
-        InstanceContext instanceContext = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(-1),
+        InstanceContext instanceContext = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(-1), mock(KeySegmentAllocator.class),
                 new ModeConfiguration("Standalone", null), mock(LockContext.class), new EventBusContext());
         algorithm.setInstanceContext(instanceContext);
         algorithm.generateKey();
@@ -222,7 +273,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
     @Test(expected = IllegalArgumentException.class)
     public void assertSetWorkerIdFailureWhenOutOfRange() {
         SnowflakeKeyGenerateAlgorithm algorithm = (SnowflakeKeyGenerateAlgorithm) KeyGenerateAlgorithmFactory.newInstance(new AlgorithmConfiguration("SNOWFLAKE", new Properties()));
-        InstanceContext instanceContext = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(Integer.MIN_VALUE),
+        InstanceContext instanceContext = new InstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), new WorkerIdGeneratorFixture(Integer.MIN_VALUE), mock(KeySegmentAllocator.class),
                 new ModeConfiguration("Standalone", null), mock(LockContext.class), new EventBusContext());
         algorithm.setInstanceContext(instanceContext);
         algorithm.generateKey();
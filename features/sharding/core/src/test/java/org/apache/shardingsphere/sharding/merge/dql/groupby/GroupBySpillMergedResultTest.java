@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class GroupBySpillMergedResultTest {
+    
+    private static final int GROUP_COUNT = 1000;
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        assertMergedResult(new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), GROUP_COUNT));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        assertMergedResult(new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), 10));
+    }
+    
+    @Test
+    public void assertNextWithMultipleLevelSpill() throws SQLException {
+        assertMergedResult(new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), 1));
+    }
+    
+    @Test
+    public void assertNextWithSpillForNonPrimitiveGroupByValue() throws SQLException {
+        MergedResult actual = new GroupBySpillMergedResult(createQueryResults(id -> new UUID(0L, id)), createSelectStatementContext(), mock(ShardingSphereSchema.class), 10);
+        assertMergedResult(actual, id -> new UUID(0L, id));
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsConsumed() throws SQLException {
+        MergedResult actual = new GroupBySpillMergedResult(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereSchema.class), 10);
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = Collections.singletonList(new RawMemoryQueryResult(createMetaData(), Collections.emptyList()));
+        MergedResult actual = new GroupBySpillMergedResult(queryResults, createSelectStatementContext(), mock(ShardingSphereSchema.class), 1);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertNull(actual.getValue(2, Object.class));
+        assertFalse(actual.next());
+    }
+    
+    private void assertMergedResult(final MergedResult actual) throws SQLException {
+        assertMergedResult(actual, id -> id);
+    }
+    
+    private void assertMergedResult(final MergedResult actual, final IntFunction<Object> groupByValueFactory) throws SQLException {
+        for (int i = GROUP_COUNT - 1; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(i));
+            assertThat(actual.getValue(3, Object.class), is(groupByValueFactory.apply(i)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        return createQueryResults(id -> id);
+    }
+    
+    private List<QueryResult> createQueryResults(final IntFunction<Object> groupByValueFactory) {
+        List<QueryResult> result = new ArrayList<>(3);
+        for (int shard = 0; shard < 3; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(GROUP_COUNT);
+            for (int i = 0; i < GROUP_COUNT; i++) {
+                int id = (i * 7 + shard) % GROUP_COUNT;
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(1L, new BigDecimal(id), groupByValueFactory.apply(id), 1L, new BigDecimal(id))));
+            }
+            result.add(new RawMemoryQueryResult(createMetaData(), rows));
+        }
+        return result;
+    }
+    
+    private RawQueryResultMetaData createMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("", "COUNT(*)", "COUNT(*)", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("", "AVG(num)", "AVG(num)", Types.DECIMAL, "DECIMAL", 20, 0),
+                new RawQueryResultColumnMetaData("", "id", "id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("", "AVG_DERIVED_COUNT_0", "AVG_DERIVED_COUNT_0", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("", "AVG_DERIVED_SUM_0", "AVG_DERIVED_SUM_0", Types.DECIMAL, "DECIMAL", 20, 0)));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ShardingSphereRuleMetaData.class),
+                mock(ConfigurationProperties.class));
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        columnLabelIndexMap.put("COUNT(*)", 1);
+        columnLabelIndexMap.put("AVG(num)", 2);
+        columnLabelIndexMap.put("id", 3);
+        columnLabelIndexMap.put("AVG_DERIVED_COUNT_0", 4);
+        columnLabelIndexMap.put("AVG_DERIVED_SUM_0", 5);
+        SelectStatementContext result = new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        result.setIndexes(columnLabelIndexMap);
+        return result;
+    }
+}
@@ -17,11 +17,21 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class AggregationUnitFactoryTest {
     
@@ -37,6 +47,41 @@ public final class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false), instanceOf(AccumulationAggregationUnit.class));
     }
     
+    @Test
+    public void assertCreateLongAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, true), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, true), instanceOf(DistinctSumAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateLongAverageAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, true), instanceOf(LongAverageAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertIsIntegral() throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnCount()).thenReturn(3);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(queryResultMetaData.getColumnType(2)).thenReturn(Types.DECIMAL);
+        when(queryResultMetaData.getColumnType(3)).thenReturn(Types.DOUBLE);
+        assertTrue(AggregationUnitFactory.isIntegral(createAggregationProjection(AggregationType.SUM, 1), queryResultMetaData));
+        assertTrue(AggregationUnitFactory.isIntegral(createAggregationProjection(AggregationType.SUM, 2), queryResultMetaData));
+        assertFalse(AggregationUnitFactory.isIntegral(createAggregationProjection(AggregationType.SUM, 3), queryResultMetaData));
+        assertTrue(AggregationUnitFactory.isIntegral(createAggregationProjection(AggregationType.COUNT, 3), queryResultMetaData));
+        AggregationProjection averageProjection = createAggregationProjection(AggregationType.AVG, 1);
+        averageProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT, 1));
+        averageProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM, 3));
+        assertFalse(AggregationUnitFactory.isIntegral(averageProjection, queryResultMetaData));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, "(num)", null, new MySQLDatabaseType());
+        result.setIndex(index);
+        return result;
+    }
+    
     @Test
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, false), instanceOf(AverageAggregationUnit.class));
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class SpillValueCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1640995200123L);
+        timestamp.setNanos(123456789);
+        List<Object> expected = Arrays.asList(null, 1, 2L, (short) 3, (byte) 4, 5.5D, 6.5F, new BigDecimal("-7.080"), new BigInteger("123456789012345678901234567890"),
+                "foo_中文", true, new Date(1640995200000L), new Time(3600000L), timestamp, new java.util.Date(1640995200000L),
+                LocalDate.of(2022, 1, 1), LocalTime.of(12, 30, 15, 123456789), LocalDateTime.of(2022, 1, 1, 12, 30, 15, 123456789));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (Object each : expected) {
+                SpillValueCodec.write(output, each);
+            }
+        }
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (Object each : expected) {
+            Object actual = SpillValueCodec.read(input);
+            assertThat(actual, is(each));
+            if (null != each) {
+                assertThat(actual.getClass().getName(), is(each.getClass().getName()));
+            }
+        }
+    }
+    
+    @Test
+    public void assertWriteAndReadBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            SpillValueCodec.write(output, new byte[]{1, 2, 3});
+        }
+        assertThat(SpillValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))), is(new byte[]{1, 2, 3}));
+    }
+    
+    @Test
+    public void assertWriteAndReadSerializableValue() throws IOException {
+        List<Object> expected = Arrays.asList(UUID.randomUUID(), OffsetDateTime.of(2022, 1, 1, 12, 30, 15, 0, ZoneOffset.ofHours(8)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (Object each : expected) {
+                SpillValueCodec.write(output, each);
+            }
+        }
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (Object each : expected) {
+            assertThat(SpillValueCodec.read(input), is(each));
+        }
+    }
+    
+    @Test(expected = NotSerializableException.class)
+    public void assertWriteUnsupportedValue() throws IOException {
+        SpillValueCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object());
+    }
+}
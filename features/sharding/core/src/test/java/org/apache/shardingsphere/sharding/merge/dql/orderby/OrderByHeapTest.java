@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByHeapTest {
+    
+    @Test
+    public void assertNextForLongValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                createQueryResult(Types.BIGINT, 1L, 4L, 7L), createQueryResult(Types.BIGINT), createQueryResult(Types.BIGINT, 2, 5), createQueryResult(Types.BIGINT, 3L, 6L, 8L));
+        assertThat(merge(queryResults, OrderDirection.ASC), is(Arrays.<Object>asList(1L, 2, 3L, 4L, 5, 6L, 7L, 8L)));
+    }
+    
+    @Test
+    public void assertNextForDescTimestampValues() throws SQLException {
+        Timestamp first = createTimestamp(1000L, 100);
+        Timestamp second = createTimestamp(1000L, 200);
+        Timestamp third = createTimestamp(2000L, 0);
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Types.TIMESTAMP, third, first), createQueryResult(Types.TIMESTAMP, second));
+        assertThat(merge(queryResults, OrderDirection.DESC), is(Arrays.<Object>asList(third, second, first)));
+    }
+    
+    @Test
+    public void assertNextForCaseInsensitiveStringValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Types.VARCHAR, "a", "C"), createQueryResult(Types.VARCHAR, "B", "d"));
+        assertThat(merge(queryResults, OrderDirection.ASC), is(Arrays.<Object>asList("a", "B", "C", "d")));
+    }
+    
+    @Test
+    public void assertNextForNullValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Types.INTEGER, null, 2), createQueryResult(Types.INTEGER, 1, 3));
+        assertThat(merge(queryResults, OrderDirection.ASC), is(Arrays.<Object>asList(null, 1, 2, 3)));
+    }
+    
+    @Test
+    public void assertNextForValuesMismatchedColumnType() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Types.BIGINT, "1", "3"), createQueryResult(Types.VARCHAR, "2"));
+        assertThat(merge(queryResults, OrderDirection.ASC), is(Arrays.<Object>asList("1", "2", "3")));
+    }
+    
+    @Test
+    public void assertNextForManyQueryResults() throws SQLException {
+        Random random = new Random(7L);
+        List<QueryResult> queryResults = new ArrayList<>(37);
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            Object[] values = new Object[random.nextInt(20)];
+            long value = 0L;
+            for (int j = 0; j < values.length; j++) {
+                value += random.nextInt(5);
+                values[j] = value;
+                expected.add(value);
+            }
+            queryResults.add(createQueryResult(Types.BIGINT, values));
+        }
+        expected.sort((o1, o2) -> Long.compare((Long) o1, (Long) o2));
+        assertThat(merge(queryResults, OrderDirection.ASC), is(expected));
+    }
+    
+    @Test
+    public void assertIsEmptyForAllQueryResultsEmpty() throws SQLException {
+        OrderByHeap actual = createOrderByHeap(Arrays.asList(createQueryResult(Types.BIGINT), createQueryResult(Types.BIGINT)), OrderDirection.ASC);
+        assertTrue(actual.isEmpty());
+    }
+    
+    private List<Object> merge(final List<QueryResult> queryResults, final OrderDirection orderDirection) throws SQLException {
+        OrderByHeap orderByHeap = createOrderByHeap(queryResults, orderDirection);
+        List<Object> result = new ArrayList<>();
+        while (!orderByHeap.isEmpty()) {
+            result.add(orderByHeap.getFirst().getValue(1, Object.class));
+            orderByHeap.next();
+        }
+        return result;
+    }
+    
+    private OrderByHeap createOrderByHeap(final List<QueryResult> queryResults, final OrderDirection orderDirection) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class);
+        when(selectStatementContext.getAllTables()).thenReturn(Collections.emptyList());
+        return new OrderByHeap(queryResults, Collections.singletonList(orderByItem), selectStatementContext, mock(ShardingSphereSchema.class));
+    }
+    
+    private QueryResult createQueryResult(final int columnType, final Object... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnType(1)).thenReturn(columnType);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get()]);
+        return result;
+    }
+    
+    private Timestamp createTimestamp(final long time, final int subMillisecondNanos) {
+        Timestamp result = new Timestamp(time);
+        result.setNanos(result.getNanos() + subMillisecondNanos);
+        return result;
+    }
+}
@@ -47,6 +47,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads to execute SQL instead of worker group, only available on JDK 21 or higher.
+     */
+    KERNEL_VIRTUAL_THREAD_ENABLED("kernel-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,6 +67,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_TYPE("sql-federation-type", "NONE", String.class, false),
     
+    /**
+     * Max count of groups held in memory per query when merging group by results, groups beyond the limit will spill to disk. 0 means no limit.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_GROUPS("group-by-merge-max-memory-groups", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -127,7 +137,27 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Proxy metadata collector enabled.
      */
-    PROXY_METADATA_COLLECTOR_ENABLED("proxy-metadata-collector-enabled", String.valueOf(Boolean.FALSE), boolean.class, true);
+    PROXY_METADATA_COLLECTOR_ENABLED("proxy-metadata-collector-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether normalize literals of MySQL text protocol DML statements to parameter markers for ShardingSphere-Proxy, so that SQLs only differ in literals share cached SQL statement.
+     */
+    PROXY_SQL_LITERAL_NORMALIZATION_ENABLED("proxy-sql-literal-normalization-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max count of rows read ahead per backend result set for ShardingSphere-Proxy in memory strictly connection mode, 0 means no read ahead.
+     */
+    PROXY_BACKEND_QUERY_PREFETCH_SIZE("proxy-backend-query-prefetch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether execute query groups asynchronously for ShardingSphere-Proxy outside transactions, so that merging starts from the groups which finish first.
+     */
+    PROXY_BACKEND_QUERY_ASYNC_MERGE_ENABLED("proxy-backend-query-async-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Timeout milliseconds of each query group executed asynchronously for ShardingSphere-Proxy, 0 means no timeout.
+     */
+    PROXY_BACKEND_QUERY_GROUP_TIMEOUT_MILLISECONDS("proxy-backend-query-group-timeout-milliseconds", String.valueOf(0), long.class, false);
     
     private final String key;
     
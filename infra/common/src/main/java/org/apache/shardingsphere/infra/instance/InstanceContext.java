@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.lock.LockContext;
 
@@ -46,6 +47,9 @@ public final class InstanceContext {
     @Getter(AccessLevel.NONE)
     private final WorkerIdGenerator workerIdGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final KeySegmentAllocator keySegmentAllocator;
+    
     private final ModeConfiguration modeConfiguration;
     
     private final LockContext lockContext;
@@ -122,6 +126,17 @@ public final class InstanceContext {
         return result;
     }
     
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param step step of key segment
+     * @return first key of allocated segment
+     */
+    public long allocateKeySegment(final String segmentName, final long step) {
+        return keySegmentAllocator.allocate(segmentName, step);
+    }
+    
     /**
      * Add compute node instance.
      * 
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Async execution result.
+ *
+ * <p>
+ * Hold the future of each execution group. Group results can be fetched in completion order, so merging can start from the groups which finish first.
+ * Groups which are not started yet are skipped once any group fails, times out or is cancelled, running groups are not interrupted to keep their connections usable.
+ * </p>
+ *
+ * @param <O> type of return value
+ */
+public final class AsyncExecutionResult<O> {
+    
+    @Getter
+    private final List<CompletableFuture<Collection<O>>> groupFutures;
+    
+    private final List<GroupTask<O>> groupTasks;
+    
+    private final BlockingQueue<CompletableFuture<Collection<O>>> completedFutures = new LinkedBlockingQueue<>();
+    
+    private final CountDownLatch terminatedLatch;
+    
+    private int fetchedCount;
+    
+    AsyncExecutionResult(final List<Callable<Collection<O>>> groupCallables) {
+        groupFutures = new ArrayList<>(groupCallables.size());
+        groupTasks = new ArrayList<>(groupCallables.size());
+        terminatedLatch = new CountDownLatch(groupCallables.size());
+        for (Callable<Collection<O>> each : groupCallables) {
+            CompletableFuture<Collection<O>> groupFuture = new CompletableFuture<>();
+            groupFutures.add(groupFuture);
+            groupTasks.add(new GroupTask<>(each, groupFuture, terminatedLatch));
+            groupFuture.whenComplete((value, ex) -> onGroupCompleted(groupFuture, ex));
+        }
+    }
+    
+    void start(final Executor executor, final ScheduledExecutorService timeoutScheduler, final long timeoutMillis) {
+        for (GroupTask<O> each : groupTasks) {
+            if (timeoutMillis > 0L) {
+                scheduleTimeout(each.getFuture(), timeoutScheduler, timeoutMillis);
+            }
+            try {
+                executor.execute(each);
+            } catch (final RejectedExecutionException ex) {
+                each.getFuture().completeExceptionally(ex);
+            }
+        }
+    }
+    
+    private void scheduleTimeout(final CompletableFuture<Collection<O>> groupFuture, final ScheduledExecutorService timeoutScheduler, final long timeoutMillis) {
+        SQLTimeoutException timeoutException = new SQLTimeoutException(String.format("Execution group is not finished in %d milliseconds.", timeoutMillis));
+        ScheduledFuture<?> timeoutFuture = timeoutScheduler.schedule(() -> groupFuture.completeExceptionally(timeoutException), timeoutMillis, TimeUnit.MILLISECONDS);
+        groupFuture.whenComplete((value, ex) -> timeoutFuture.cancel(false));
+    }
+    
+    private void onGroupCompleted(final CompletableFuture<Collection<O>> groupFuture, final Throwable exception) {
+        completedFutures.offer(groupFuture);
+        if (null != exception) {
+            cancel();
+        }
+    }
+    
+    /**
+     * Judge whether there are group results not fetched yet.
+     *
+     * @return has next group results or not
+     */
+    public boolean hasNext() {
+        return fetchedCount < groupFutures.size();
+    }
+    
+    /**
+     * Get results of next completed group, wait if no group is completed yet.
+     *
+     * @return results of next completed group
+     * @throws SQLException throw if the group is failed, timed out or cancelled
+     */
+    public Collection<O> next() throws SQLException {
+        CompletableFuture<Collection<O>> groupFuture;
+        try {
+            groupFuture = completedFutures.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new UnknownSQLException(ex);
+        }
+        fetchedCount++;
+        try {
+            return groupFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        } catch (final CancellationException ex) {
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    /**
+     * Get results of all groups in group order, wait until all groups are finished.
+     *
+     * <p>
+     * Groups are waited in completion order, so the first failure is thrown without waiting for groups before it.
+     * </p>
+     *
+     * @return results of all groups
+     * @throws SQLException throw if any group is failed, timed out or cancelled
+     */
+    public List<O> getResults() throws SQLException {
+        while (hasNext()) {
+            next();
+        }
+        List<O> result = new LinkedList<>();
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
+    /**
+     * Cancel groups which are not completed yet.
+     */
+    public void cancel() {
+        for (GroupTask<O> each : groupTasks) {
+            each.cancel();
+        }
+    }
+    
+    /**
+     * Cancel groups which are not completed yet and wait until started groups are finished.
+     *
+     * @return results which are not fetched by {@link #next()}, including results of groups finished after they timed out or were cancelled
+     */
+    public Collection<O> awaitTermination() {
+        cancel();
+        try {
+            terminatedLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        Collection<O> result = new LinkedList<>();
+        for (GroupTask<O> each : groupTasks) {
+            result.addAll(each.getOrphanResults());
+        }
+        CompletableFuture<Collection<O>> each;
+        while (null != (each = completedFutures.poll())) {
+            if (!each.isCompletedExceptionally()) {
+                result.addAll(each.join());
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class GroupTask<O> implements Runnable {
+        
+        private final Callable<Collection<O>> callable;
+        
+        @Getter
+        private final CompletableFuture<Collection<O>> future;
+        
+        private final CountDownLatch terminatedLatch;
+        
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        
+        @Getter
+        private volatile Collection<O> orphanResults = Collections.emptyList();
+        
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                Collection<O> results = callable.call();
+                if (!future.complete(results)) {
+                    orphanResults = results;
+                }
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                future.completeExceptionally(ex);
+            } finally {
+                terminatedLatch.countDown();
+            }
+        }
+        
+        void cancel() {
+            future.completeExceptionally(new CancellationException("Execution group is cancelled."));
+            if (claimed.compareAndSet(false, true)) {
+                terminatedLatch.countDown();
+            }
+        }
+    }
+}
@@ -23,7 +23,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
-import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -32,8 +32,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 /**
  * Executor engine.
@@ -43,12 +44,24 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = createTimeoutScheduler();
+    
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
+    }
+    
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, ExecutorThreadFactoryBuilder.build("Executor-Engine-Timeout"));
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -59,6 +72,21 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size or virtual threads.
+     *
+     * <p>
+     * Executor size is ignored if virtual thread is enabled and supported by current JVM, a new virtual thread is started for each task then.
+     * </p>
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether use virtual threads
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -116,6 +144,25 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute all execution groups asynchronously.
+     *
+     * <p>
+     * The caller thread is not blocked, each group completes its own future once finished.
+     * A group is failed with {@code SQLTimeoutException} if it is not finished in time, and groups which are not started yet are skipped on the first failure.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param timeoutMillis timeout milliseconds of each group, no timeout if it is not positive
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return async execution result
+     */
+    public <I, O> AsyncExecutionResult<O> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback, final long timeoutMillis) {
+        return asyncExecute(executionGroupContext.getInputGroups().iterator(), callback, timeoutMillis);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -127,46 +174,34 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        AsyncExecutionResult<O> restResult = asyncExecute(executionGroups, callback, 0L);
+        List<O> result;
+        try {
+            result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        } catch (final SQLException ex) {
+            restResult.cancel();
+            throw ex;
+        }
+        result.addAll(restResult.getResults());
+        return result;
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
-        while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
-        }
-        return result;
-    }
-    
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+    private <I, O> AsyncExecutionResult<O> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback, final long timeoutMillis) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
-    }
-    
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
-            }
+        List<Callable<Collection<O>>> groupCallables = new LinkedList<>();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> executionGroup = executionGroups.next();
+            groupCallables.add(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
         }
+        AsyncExecutionResult<O> result = new AsyncExecutionResult<>(groupCallables);
+        result.start(executorServiceManager.getExecutorService(), TIMEOUT_SCHEDULER, timeoutMillis);
         return result;
     }
     
-    private <O> List<O> throwException(final Exception exception) throws SQLException {
-        if (exception.getCause() instanceof SQLException) {
-            throw (SQLException) exception.getCause();
-        }
-        throw new UnknownSQLException(exception);
-    }
-    
     @Override
     public void close() {
         executorServiceManager.close();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -28,6 +29,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -40,8 +42,28 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = virtualThreadEnabled && isVirtualThreadSupported() ? getVirtualThreadExecutorService(nameFormat) : getExecutorService(executorSize, nameFormat);
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        if (VirtualThreadUtil.isSupported()) {
+            return true;
+        }
+        log.warn("Virtual thread is unsupported by current JVM, fall back to platform thread pool.");
+        return false;
+    }
+    
+    private ExecutorService getVirtualThreadExecutorService(final String nameFormat) {
+        return VirtualThreadUtil.newThreadPerTaskExecutor(ExecutorThreadFactoryBuilder.buildVirtual(nameFormat));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread utility.
+ *
+ * <p>
+ * Virtual threads are only available from JDK 21, they are accessed by reflection to keep compatible with Java 8.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadUtil {
+    
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
+    
+    /**
+     * Get virtual thread factory.
+     *
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException if virtual thread is unsupported by current JVM
+     */
+    public static ThreadFactory getThreadFactory() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual thread is unsupported by current JVM.");
+        }
+        return VIRTUAL_THREAD_FACTORY;
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     *
+     * @param threadFactory thread factory
+     * @return executor service
+     * @throws UnsupportedOperationException if virtual thread is unsupported by current JVM
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException("Virtual thread is unsupported by current JVM.", ex);
+        }
+    }
+}
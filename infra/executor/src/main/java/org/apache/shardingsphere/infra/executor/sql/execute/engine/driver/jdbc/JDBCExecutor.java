@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.AsyncExecutionResult;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
@@ -70,4 +71,17 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout milliseconds of each execution group, no timeout if it is not positive
+     * @param <T> class type of return value
+     * @return async execution result
+     */
+    public <T> AsyncExecutionResult<T> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> callback, final long timeoutMillis) {
+        return executorEngine.executeAsync(executionGroupContext, callback, timeoutMillis);
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.async;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.AsyncExecutionResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Execute results of execution groups executed asynchronously, which are handed out in completion order.
+ *
+ * <p>
+ * The n-th query result is the n-th one finished, so merged results reading query results in order start from the groups which finish first instead of waiting for all groups.
+ * Query results which are not finished yet are represented by {@link CompletionOrderQueryResult}, which waits for its query result when it is read for the first time.
+ * Closing any of them waits for the running groups and closes the query results which are not handed out.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class CompletionOrderExecuteResults {
+    
+    private final AsyncExecutionResult<ExecuteResult> executionResult;
+    
+    private final int executeResultCount;
+    
+    private final List<ExecuteResult> completedResults = new ArrayList<>();
+    
+    private boolean closed;
+    
+    /**
+     * Get execute results, wait until the first execute result is finished.
+     *
+     * <p>
+     * Execute results are waited for all groups if they are not query results.
+     * </p>
+     *
+     * @return execute results in completion order
+     * @throws SQLException SQL exception
+     */
+    public List<ExecuteResult> getExecuteResults() throws SQLException {
+        try {
+            fetchUntil(0);
+            if (completedResults.isEmpty() || !(completedResults.get(0) instanceof QueryResult)) {
+                fetchUntil(executeResultCount);
+                return new ArrayList<>(completedResults);
+            }
+        } catch (final SQLException ex) {
+            close();
+            throw ex;
+        }
+        List<ExecuteResult> result = new ArrayList<>(executeResultCount);
+        result.addAll(completedResults);
+        QueryResultMetaData metaData = ((QueryResult) completedResults.get(0)).getMetaData();
+        for (int i = completedResults.size(); i < executeResultCount; i++) {
+            result.add(new CompletionOrderQueryResult(this, i, metaData));
+        }
+        return result;
+    }
+    
+    private void fetchUntil(final int index) throws SQLException {
+        while (completedResults.size() <= index && executionResult.hasNext()) {
+            completedResults.addAll(executionResult.next());
+        }
+    }
+    
+    QueryResult getQueryResult(final int index) throws SQLException {
+        if (closed) {
+            return null;
+        }
+        fetchUntil(index);
+        return index < completedResults.size() ? (QueryResult) completedResults.get(index) : null;
+    }
+    
+    void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (ExecuteResult each : executionResult.awaitTermination()) {
+            if (each instanceof QueryResult) {
+                try {
+                    ((QueryResult) each).close();
+                } catch (final SQLException ex) {
+                    exceptions.add(ex);
+                }
+            }
+        }
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        exceptions.forEach(ex::setNextException);
+        throw ex;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectQueryResultDataRowLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectQueryResultDataRowLoaderFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDBC query result for stream loading with rows read ahead.
+ *
+ * <p>
+ * Rows are read ahead on the executor into a bounded buffer while the merger consumes them, so reading from databases overlaps merging.
+ * The result set is only read by one thread: the read ahead task, or the consumer itself if the task has not been started when the consumer needs a row.
+ * The read ahead task blocks while the buffer is full, and closing the query result empties the buffer to wake it up and stop it.
+ * </p>
+ */
+public final class JDBCPrefetchStreamQueryResult extends AbstractStreamQueryResult {
+    
+    private static final MemoryQueryResultDataRow END_OF_ROWS = new MemoryQueryResultDataRow(Collections.emptyList());
+    
+    @Getter
+    private final ResultSet resultSet;
+    
+    private final DialectQueryResultDataRowLoader rowLoader;
+    
+    private final int columnCount;
+    
+    private final BlockingQueue<MemoryQueryResultDataRow> prefetchedRows;
+    
+    private final AtomicBoolean resultSetClaimed = new AtomicBoolean();
+    
+    private final CountDownLatch resultSetReleasedLatch = new CountDownLatch(1);
+    
+    private volatile boolean prefetchFinished;
+    
+    private volatile Exception prefetchFailure;
+    
+    private volatile boolean closed;
+    
+    private boolean readDirectly;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
+    private boolean wasNull;
+    
+    public JDBCPrefetchStreamQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final int prefetchSize, final Executor executor) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
+        this.resultSet = resultSet;
+        rowLoader = DialectQueryResultDataRowLoaderFactory.getInstance(databaseType);
+        columnCount = resultSet.getMetaData().getColumnCount();
+        prefetchedRows = new ArrayBlockingQueue<>(prefetchSize);
+        try {
+            executor.execute(this::prefetch);
+        } catch (final RejectedExecutionException ignored) {
+            readDirectly = claimResultSet();
+        }
+    }
+    
+    private boolean claimResultSet() {
+        if (resultSetClaimed.compareAndSet(false, true)) {
+            resultSetReleasedLatch.countDown();
+            return true;
+        }
+        return false;
+    }
+    
+    private void prefetch() {
+        if (!resultSetClaimed.compareAndSet(false, true)) {
+            return;
+        }
+        boolean completed = false;
+        try {
+            while (!closed && resultSet.next()) {
+                prefetchedRows.put(rowLoader.loadRow(columnCount, resultSet));
+            }
+            completed = true;
+        } catch (final SQLException ex) {
+            prefetchFailure = ex;
+        } catch (final InterruptedException ex) {
+            prefetchFailure = ex;
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!completed && null == prefetchFailure) {
+                prefetchFailure = new SQLException("Read ahead of result set is aborted.");
+            }
+            prefetchFinished = true;
+            // The consumer only waits on an empty buffer, so the end mark fits whenever it is needed to wake the consumer up.
+            prefetchedRows.offer(END_OF_ROWS);
+            resultSetReleasedLatch.countDown();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRow = readDirectly ? readRow() : takePrefetchedRow();
+        return null != currentRow;
+    }
+    
+    private MemoryQueryResultDataRow readRow() throws SQLException {
+        return resultSet.next() ? rowLoader.loadRow(columnCount, resultSet) : null;
+    }
+    
+    private MemoryQueryResultDataRow takePrefetchedRow() throws SQLException {
+        MemoryQueryResultDataRow result = prefetchedRows.poll();
+        if (null == result) {
+            if (prefetchFinished) {
+                return takeRemainingRow();
+            }
+            if (claimResultSet()) {
+                readDirectly = true;
+                return readRow();
+            }
+            result = waitPrefetchedRow();
+        }
+        return END_OF_ROWS == result ? takeRemainingRow() : result;
+    }
+    
+    private MemoryQueryResultDataRow takeRemainingRow() throws SQLException {
+        MemoryQueryResultDataRow result = prefetchedRows.poll();
+        if (null != result && END_OF_ROWS != result) {
+            return result;
+        }
+        if (null == prefetchFailure) {
+            return null;
+        }
+        if (prefetchFailure instanceof SQLException) {
+            throw (SQLException) prefetchFailure;
+        }
+        throw new UnknownSQLException(prefetchFailure).toSQLException();
+    }
+    
+    private MemoryQueryResultDataRow waitPrefetchedRow() throws SQLException {
+        try {
+            return prefetchedRows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = currentRow.getValue().get(columnIndex - 1);
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        claimResultSet();
+        prefetchedRows.clear();
+        awaitResultSetReleased();
+        resultSet.close();
+    }
+    
+    private void awaitResultSetReleased() {
+        try {
+            resultSetReleasedLatch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
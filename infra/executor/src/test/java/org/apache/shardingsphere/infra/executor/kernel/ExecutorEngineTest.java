@@ -20,19 +20,27 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -103,4 +111,120 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertParallelExecuteSkipNotStartedGroupsOnFailure() throws SQLException {
+        ExecutorEngine singleThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1);
+        CountDownLatch blockingStartedLatch = new CountDownLatch(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        Collection<Object> executedInputs = new ConcurrentLinkedQueue<>();
+        ExecutorCallback<Object, Object> blockingCallback = (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains("failed")) {
+                awaitQuietly(blockingStartedLatch);
+                throw new SQLException("failed");
+            }
+            if (inputs.contains("blocking")) {
+                blockingStartedLatch.countDown();
+                awaitQuietly(blockingLatch);
+            }
+            executedInputs.addAll(inputs);
+            return inputs;
+        };
+        try {
+            singleThreadExecutorEngine.execute(createExecutionGroupContext("failed", "blocking", "queued"), blockingCallback);
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+        }
+        blockingLatch.countDown();
+        singleThreadExecutorEngine.execute(createExecutionGroupContext("trunk", "marker"), blockingCallback);
+        singleThreadExecutorEngine.close();
+        assertThat(executedInputs.size(), is(3));
+        assertFalse(executedInputs.contains("queued"));
+    }
+    
+    @Test
+    public void assertExecuteAsyncInCompletionOrder() throws SQLException {
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        AsyncExecutionResult<Object> actual = executorEngine.executeAsync(createExecutionGroupContext("slow", "fast"), (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains("slow")) {
+                awaitQuietly(slowLatch);
+            }
+            return inputs;
+        }, 0L);
+        assertTrue(actual.hasNext());
+        assertThat(actual.next(), is(Collections.singletonList("fast")));
+        slowLatch.countDown();
+        assertThat(actual.next(), is(Collections.singletonList("slow")));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertExecuteAsyncGetResultsInGroupOrder() throws SQLException {
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        AsyncExecutionResult<Object> actual = executorEngine.executeAsync(createExecutionGroupContext("slow", "fast"), (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains("slow")) {
+                awaitQuietly(slowLatch);
+            } else {
+                slowLatch.countDown();
+            }
+            return inputs;
+        }, 0L);
+        assertThat(actual.getResults(), is(Arrays.asList("slow", "fast")));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithTimeout() throws SQLException {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        AsyncExecutionResult<Object> actual = executorEngine.executeAsync(createExecutionGroupContext("blocking"), (inputs, isTrunkThread, dataMap) -> {
+            awaitQuietly(blockingLatch);
+            return inputs;
+        }, 50L);
+        try {
+            actual.next();
+            fail("Expected SQLTimeoutException.");
+        } catch (final SQLTimeoutException ex) {
+            assertNotNull(ex.getMessage());
+        }
+        blockingLatch.countDown();
+        assertThat(actual.awaitTermination(), is(Collections.singletonList("blocking")));
+    }
+    
+    @Test
+    public void assertExecuteAsyncSkipNotStartedGroupsOnFailure() throws SQLException {
+        ExecutorEngine singleThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1);
+        Collection<Object> executedInputs = new ConcurrentLinkedQueue<>();
+        AsyncExecutionResult<Object> actual = singleThreadExecutorEngine.executeAsync(createExecutionGroupContext("failed", "queued"), (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains("failed")) {
+                throw new SQLException("failed");
+            }
+            executedInputs.addAll(inputs);
+            return inputs;
+        }, 0L);
+        try {
+            actual.getResults();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+        }
+        assertTrue(actual.awaitTermination().isEmpty());
+        singleThreadExecutorEngine.close();
+        assertTrue(executedInputs.isEmpty());
+    }
+    
+    private ExecutionGroupContext<Object> createExecutionGroupContext(final Object... inputs) {
+        Collection<ExecutionGroup<Object>> result = new LinkedList<>();
+        for (Object each : inputs) {
+            result.add(new ExecutionGroup<>(Collections.singletonList(each)));
+        }
+        return new ExecutionGroupContext<>(result);
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
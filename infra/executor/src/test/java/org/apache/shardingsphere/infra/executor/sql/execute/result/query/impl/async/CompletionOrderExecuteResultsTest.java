@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.async;
+
+import org.apache.shardingsphere.infra.executor.kernel.AsyncExecutionResult;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class CompletionOrderExecuteResultsTest {
+    
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2);
+    
+    private final CountDownLatch slowLatch = new CountDownLatch(1);
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    public void assertGetExecuteResultsInCompletionOrder() throws SQLException {
+        QueryResult slowQueryResult = mock(QueryResult.class);
+        when(slowQueryResult.next()).thenReturn(true);
+        QueryResult fastQueryResult = mock(QueryResult.class);
+        List<ExecuteResult> actual = createExecuteResults(slowQueryResult, fastQueryResult).getExecuteResults();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(fastQueryResult));
+        assertThat(actual.get(1), instanceOf(CompletionOrderQueryResult.class));
+        slowLatch.countDown();
+        assertTrue(((QueryResult) actual.get(1)).next());
+        verify(slowQueryResult).next();
+    }
+    
+    @Test
+    public void assertGetExecuteResultsWithUpdateResults() throws SQLException {
+        UpdateResult slowUpdateResult = new UpdateResult(1, 0L);
+        UpdateResult fastUpdateResult = new UpdateResult(2, 0L);
+        CompletionOrderExecuteResults executeResults = createExecuteResults(slowUpdateResult, fastUpdateResult);
+        slowLatch.countDown();
+        List<ExecuteResult> actual = executeResults.getExecuteResults();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(fastUpdateResult));
+        assertThat(actual.get(1), is(slowUpdateResult));
+    }
+    
+    @Test
+    public void assertCloseNotFetchedQueryResults() throws SQLException {
+        QueryResult slowQueryResult = mock(QueryResult.class);
+        QueryResult fastQueryResult = mock(QueryResult.class);
+        List<ExecuteResult> actual = createExecuteResults(slowQueryResult, fastQueryResult).getExecuteResults();
+        slowLatch.countDown();
+        ((QueryResult) actual.get(1)).close();
+        verify(slowQueryResult).close();
+    }
+    
+    @Test
+    public void assertGetExecuteResultsWithFailure() throws SQLException {
+        QueryResult slowQueryResult = mock(QueryResult.class);
+        Collection<ExecutionGroup<Object>> inputGroups = new LinkedList<>();
+        inputGroups.add(new ExecutionGroup<>(Collections.singletonList(slowQueryResult)));
+        inputGroups.add(new ExecutionGroup<>(Collections.singletonList("failed")));
+        AsyncExecutionResult<ExecuteResult> executionResult = executorEngine.executeAsync(new ExecutionGroupContext<>(inputGroups), (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains("failed")) {
+                throw new SQLException("failed");
+            }
+            awaitQuietly(slowLatch);
+            return Collections.singletonList((ExecuteResult) inputs.iterator().next());
+        }, 0L);
+        executionResult.getGroupFutures().get(0).whenComplete((value, ex) -> slowLatch.countDown());
+        CompletionOrderExecuteResults executeResults = new CompletionOrderExecuteResults(executionResult, 2);
+        try {
+            executeResults.getExecuteResults();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("failed"));
+        }
+        verify(slowQueryResult).close();
+    }
+    
+    private CompletionOrderExecuteResults createExecuteResults(final ExecuteResult slowExecuteResult, final ExecuteResult fastExecuteResult) {
+        Collection<ExecutionGroup<ExecuteResult>> inputGroups = new LinkedList<>();
+        inputGroups.add(new ExecutionGroup<>(Collections.singletonList(slowExecuteResult)));
+        inputGroups.add(new ExecutionGroup<>(Collections.singletonList(fastExecuteResult)));
+        return new CompletionOrderExecuteResults(executorEngine.executeAsync(new ExecutionGroupContext<>(inputGroups), (inputs, isTrunkThread, dataMap) -> {
+            if (inputs.contains(slowExecuteResult)) {
+                awaitQuietly(slowLatch);
+            }
+            return new LinkedList<>(inputs);
+        }, 0L), 2);
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCPrefetchStreamQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertNextWithPrefetch() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 1, executorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3L));
+        assertFalse(actual.wasNull());
+        assertFalse(actual.next());
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertNextWithNullValue() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 4, executorService);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWhenPrefetchTaskRejected() throws SQLException {
+        ExecutorService rejectedExecutorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(rejectedExecutorService).execute(any());
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 4, rejectedExecutorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertFalse(actual.next());
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertNextWhenPrefetchTaskNotStarted() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 4, mock(ExecutorService.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithPrefetchFailure() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("Connection reset"));
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 4, executorService);
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    @Test
+    public void assertCloseBeforeConsumed() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 2, executorService);
+        assertTrue(actual.next());
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertCloseWhenBufferIsFull() throws SQLException, InterruptedException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new MySQLDatabaseType(), 1, executorService);
+        verify(resultSet, timeout(5000L).atLeast(2)).next();
+        actual.close();
+        verify(resultSet).close();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(metaData);
+        return result;
+    }
+}
@@ -72,4 +72,21 @@ public interface MergedResult {
      * @throws SQLException SQL exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Judge whether rows of query results are passed through unchanged and in their original order.
+     * 
+     * @return rows are passed through or not
+     */
+    default boolean isPassThrough() {
+        return false;
+    }
+    
+    /**
+     * Close merged result and release resources held by it.
+     * 
+     * @throws SQLException SQL exception
+     */
+    default void close() throws SQLException {
+    }
 }
@@ -72,4 +72,9 @@ public final class TransparentMergedResultTest {
         TransparentMergedResult actual = new TransparentMergedResult(mock(QueryResult.class));
         assertFalse(actual.wasNull());
     }
+    
+    @Test
+    public void assertIsPassThrough() {
+        assertTrue(new TransparentMergedResult(mock(QueryResult.class)).isPassThrough());
+    }
 }
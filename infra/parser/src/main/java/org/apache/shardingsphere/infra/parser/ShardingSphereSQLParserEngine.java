@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.parser;
 
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.normalize.NormalizedSQL;
+import org.apache.shardingsphere.infra.parser.normalize.NormalizedSQLStatement;
+import org.apache.shardingsphere.infra.parser.normalize.SQLLiteralNormalizer;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -26,6 +29,8 @@ import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -65,4 +70,25 @@ public final class ShardingSphereSQLParserEngine {
             }
         }
     }
+    
+    /**
+     * Parse to SQL statement with literals normalized to parameter markers.
+     *
+     * <p>SQLs only differ in literals share the same cached SQL statement, literals are returned as parameters.</p>
+     *
+     * @param sql SQL to be parsed
+     * @return normalized SQL statement, empty if SQL can not be normalized
+     */
+    public Optional<NormalizedSQLStatement> parseNormalized(final String sql) {
+        Optional<NormalizedSQL> normalizedSQL = SQLLiteralNormalizer.normalize(sql);
+        if (!normalizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            SQLStatement sqlStatement = sqlStatementParserEngine.parse(normalizedSQL.get().getSql(), true);
+            return Optional.of(new NormalizedSQLStatement(normalizedSQL.get().getSql(), normalizedSQL.get().getParameters(), sqlStatement));
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.normalize;
+
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal normalizer.
+ *
+ * <p>
+ * Lex the SQL once and replace string and numeric literals in predicates, assignments and value lists with parameter markers,
+ * so that SQLs which only differ in literals share the same normalized SQL.
+ * The SQL is left as it is if any construct the lexer can not safely handle is found, such as comments (may carry hints),
+ * parameter markers, multiple statements, escaped or prefixed strings.
+ * </p>
+ */
+public final class SQLLiteralNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> PREDICATE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "SET", "VALUES", "VALUE", "HAVING", "ON"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "LIKE"));
+    
+    private static final String LITERAL = "'LITERAL'";
+    
+    private final String sql;
+    
+    private final StringBuilder normalizedSQL;
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final Deque<Boolean> valueListFlags = new LinkedList<>();
+    
+    private String previousToken = "";
+    
+    private boolean predicateStarted;
+    
+    private boolean valuesClauseStarted;
+    
+    private boolean betweenStarted;
+    
+    private int position;
+    
+    private SQLLiteralNormalizer(final String sql) {
+        this.sql = sql;
+        normalizedSQL = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Normalize SQL.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL, empty if SQL can not be normalized or contains no literal to be normalized
+     */
+    public static Optional<NormalizedSQL> normalize(final String sql) {
+        return new SQLLiteralNormalizer(sql).normalize();
+    }
+    
+    private Optional<NormalizedSQL> normalize() {
+        if (!isDMLStatement()) {
+            return Optional.empty();
+        }
+        while (position < sql.length()) {
+            if (!nextToken()) {
+                return Optional.empty();
+            }
+        }
+        return parameters.isEmpty() || !valueListFlags.isEmpty() ? Optional.empty() : Optional.of(new NormalizedSQL(normalizedSQL.toString(), parameters));
+    }
+    
+    private boolean isDMLStatement() {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return DML_KEYWORDS.contains(sql.substring(start, end).toUpperCase());
+    }
+    
+    private boolean nextToken() {
+        char current = sql.charAt(position);
+        if (Character.isWhitespace(current)) {
+            normalizedSQL.append(current);
+            position++;
+            return true;
+        }
+        if (isUnsupportedCharacter(current)) {
+            return false;
+        }
+        if ('\'' == current) {
+            return nextStringLiteral();
+        }
+        if ('"' == current || '`' == current) {
+            return nextQuotedIdentifier(current);
+        }
+        if (Character.isDigit(current) || '.' == current && position + 1 < sql.length() && Character.isDigit(sql.charAt(position + 1)) && !isIdentifierPart(previousChar())) {
+            return nextNumberLiteral();
+        }
+        if (isIdentifierStart(current)) {
+            return nextWord();
+        }
+        nextSymbol();
+        return true;
+    }
+    
+    private boolean isUnsupportedCharacter(final char current) {
+        if ('?' == current || ';' == current || '#' == current || '$' == current) {
+            return true;
+        }
+        char next = position + 1 < sql.length() ? sql.charAt(position + 1) : 0;
+        return '-' == current && '-' == next || '/' == current && '*' == next;
+    }
+    
+    private boolean nextStringLiteral() {
+        StringBuilder value = new StringBuilder();
+        int index = position + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\\' == each) {
+                return false;
+            }
+            if ('\'' == each) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    value.append('\'');
+                    index += 2;
+                    continue;
+                }
+                return appendLiteral(index + 1, value.toString());
+            }
+            value.append(each);
+            index++;
+        }
+        return false;
+    }
+    
+    private boolean nextQuotedIdentifier(final char quote) {
+        int index = position + 1;
+        while (index < sql.length()) {
+            if (quote == sql.charAt(index)) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                normalizedSQL.append(sql, position, index + 1);
+                position = index + 1;
+                previousToken = "IDENTIFIER";
+                return true;
+            }
+            index++;
+        }
+        return false;
+    }
+    
+    private boolean nextNumberLiteral() {
+        int index = skipDigits(position);
+        boolean isDecimal = false;
+        if (index < sql.length() && '.' == sql.charAt(index)) {
+            isDecimal = true;
+            index = skipDigits(index + 1);
+        }
+        if (index < sql.length() && ('e' == sql.charAt(index) || 'E' == sql.charAt(index))) {
+            int exponentIndex = index + 1 < sql.length() && ('+' == sql.charAt(index + 1) || '-' == sql.charAt(index + 1)) ? index + 2 : index + 1;
+            if (exponentIndex < sql.length() && Character.isDigit(sql.charAt(exponentIndex))) {
+                isDecimal = true;
+                index = skipDigits(exponentIndex);
+            }
+        }
+        if (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+            return nextWord();
+        }
+        String text = sql.substring(position, index);
+        return appendLiteral(index, isDecimal ? new BigDecimal(text) : new NumberLiteralValue(text).getValue());
+    }
+    
+    private int skipDigits(final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean nextWord() {
+        int index = position;
+        while (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+            index++;
+        }
+        if (index < sql.length() && '\'' == sql.charAt(index)) {
+            return false;
+        }
+        String word = sql.substring(position, index).toUpperCase();
+        normalizedSQL.append(sql, position, index);
+        position = index;
+        if (PREDICATE_KEYWORDS.contains(word)) {
+            predicateStarted = true;
+        }
+        if ("VALUES".equals(word) || "VALUE".equals(word)) {
+            valuesClauseStarted = true;
+        } else if (valueListFlags.isEmpty()) {
+            valuesClauseStarted = false;
+        }
+        if ("BETWEEN".equals(word)) {
+            betweenStarted = true;
+        }
+        previousToken = word;
+        return true;
+    }
+    
+    private void nextSymbol() {
+        char current = sql.charAt(position);
+        if ('(' == current) {
+            valueListFlags.push("IN".equals(previousToken) || "VALUES".equals(previousToken) || "VALUE".equals(previousToken)
+                    || valuesClauseStarted && valueListFlags.isEmpty() && ",".equals(previousToken));
+        } else if (')' == current && !valueListFlags.isEmpty()) {
+            valueListFlags.pop();
+        }
+        int index = position + 1;
+        if (isComparisonSymbol(current)) {
+            while (index < sql.length() && isComparisonSymbol(sql.charAt(index))) {
+                index++;
+            }
+        }
+        normalizedSQL.append(sql, position, index);
+        previousToken = sql.substring(position, index);
+        position = index;
+    }
+    
+    private boolean appendLiteral(final int endIndex, final Object value) {
+        if (LITERAL.equals(previousToken)) {
+            return false;
+        }
+        if (isParameterizable() && !isFollowedByTypeCast(endIndex)) {
+            normalizedSQL.append('?');
+            parameters.add(value);
+        } else {
+            normalizedSQL.append(sql, position, endIndex);
+        }
+        if (betweenStarted && "AND".equals(previousToken)) {
+            betweenStarted = false;
+        }
+        previousToken = LITERAL;
+        position = endIndex;
+        return true;
+    }
+    
+    private boolean isParameterizable() {
+        if (!predicateStarted) {
+            return false;
+        }
+        if (COMPARISON_OPERATORS.contains(previousToken)) {
+            return true;
+        }
+        if (betweenStarted && ("BETWEEN".equals(previousToken) || "AND".equals(previousToken))) {
+            return true;
+        }
+        return !valueListFlags.isEmpty() && valueListFlags.peek() && ("(".equals(previousToken) || ",".equals(previousToken));
+    }
+    
+    private boolean isFollowedByTypeCast(final int endIndex) {
+        int index = endIndex;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return index + 1 < sql.length() && ':' == sql.charAt(index) && ':' == sql.charAt(index + 1);
+    }
+    
+    private char previousChar() {
+        return 0 == position ? 0 : sql.charAt(position - 1);
+    }
+    
+    private boolean isComparisonSymbol(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return Character.isLetter(ch) || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.normalize;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralNormalizerTest {
+    
+    @Test
+    public void assertNormalizeSelectWithPredicates() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("SELECT name FROM t_order WHERE user_id = 10 AND status <> 'it''s' AND amount BETWEEN 1.5 AND 2e3 LIMIT 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT name FROM t_order WHERE user_id = ? AND status <> ? AND amount BETWEEN ? AND ? LIMIT 10"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "it's", new BigDecimal("1.5"), new BigDecimal("2e3"))));
+    }
+    
+    @Test
+    public void assertNormalizeIntegerLiteralsAsParserNumberTypes() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE user_id = 2147483647 AND order_id = 2147483648 AND item_id = 99999999999999999999");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(2147483647, 2147483648L, new BigInteger("99999999999999999999"))));
+    }
+    
+    @Test
+    public void assertNormalizeSameShapeToSameSQL() {
+        Optional<NormalizedSQL> actual1 = SQLLiteralNormalizer.normalize("select * from t_order where order_id in (1, 2) and user_id = 1");
+        Optional<NormalizedSQL> actual2 = SQLLiteralNormalizer.normalize("select * from t_order where order_id in (300, 400) and user_id = 100");
+        assertTrue(actual1.isPresent());
+        assertTrue(actual2.isPresent());
+        assertThat(actual1.get().getSql(), is("select * from t_order where order_id in (?, ?) and user_id = ?"));
+        assertThat(actual2.get().getSql(), is(actual1.get().getSql()));
+        assertThat(actual2.get().getParameters(), is(Arrays.<Object>asList(300, 400, 100)));
+    }
+    
+    @Test
+    public void assertNormalizeMultipleValuesInsert() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'init'), (2, NOW()) ON DUPLICATE KEY UPDATE status = 'ok'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, NOW()) ON DUPLICATE KEY UPDATE status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "init", 2, "ok")));
+    }
+    
+    @Test
+    public void assertNormalizeKeepsNonPredicateLiterals() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("SELECT 1, 'a' AS c, `t_1`.id FROM t_1 WHERE id = 1 GROUP BY 1 ORDER BY 2");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, 'a' AS c, `t_1`.id FROM t_1 WHERE id = ? GROUP BY 1 ORDER BY 2"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1)));
+    }
+    
+    @Test
+    public void assertNormalizeSkipsTypeCastLiteral() {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE create_time > '2022-01-01'::date AND order_id = 0x1F AND user_id = 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE create_time > '2022-01-01'::date AND order_id = 0x1F AND user_id = ?"));
+    }
+    
+    @Test
+    public void assertNotNormalizeNonDMLStatement() {
+        assertFalse(SQLLiteralNormalizer.normalize("SET NAMES 'utf8'").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SHOW TABLES LIKE 't_%'").isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeUnsupportedSQL() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("/* SHARDINGSPHERE_HINT: t_order.SHARDING_DATABASE_VALUE=1 */ SELECT * FROM t_order WHERE order_id = 1").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1 -- comment").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("UPDATE t_order SET status = 1 WHERE order_id = 1; UPDATE t_order SET status = 2 WHERE order_id = 2").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = _utf8'a'").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a' 'b'").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a").isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeWithoutLiteral() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = user_id").isPresent());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Evaluate inline expression with the same result as Groovy for integral values, and without creating Groovy closure.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final List<Object> segments;
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables referenced by inline expression
+     * @return evaluated result, empty if any variable is absent or any value is not supported, and Groovy should be used instead
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof String) {
+                result.append((String) each);
+                continue;
+            }
+            Object value = ((ExpressionNode) each).evaluate(variables);
+            if (null == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    /**
+     * Expression node.
+     */
+    interface ExpressionNode {
+        
+        /**
+         * Evaluate expression node.
+         *
+         * @param variables variables
+         * @return value, null if value is not supported
+         */
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    static final class LiteralNode implements ExpressionNode {
+        
+        private final Number value;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class VariableNode implements ExpressionNode {
+        
+        private final String name;
+        
+        private final boolean operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object result = variables.get(name);
+            if (result instanceof Short || result instanceof Byte) {
+                return ((Number) result).intValue();
+            }
+            if (result instanceof Integer || result instanceof Long) {
+                return result;
+            }
+            return !operand && result instanceof String ? result : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class NegativeNode implements ExpressionNode {
+        
+        private final ExpressionNode node;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = node.evaluate(variables);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            return value instanceof Long ? -(Long) value : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class BinaryOperationNode implements ExpressionNode {
+        
+        private final char operator;
+        
+        private final ExpressionNode left;
+        
+        private final ExpressionNode right;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object leftValue = left.evaluate(variables);
+            Object rightValue = right.evaluate(variables);
+            if (leftValue instanceof Integer && rightValue instanceof Integer) {
+                return evaluate((Integer) leftValue, (Integer) rightValue);
+            }
+            if ((leftValue instanceof Integer || leftValue instanceof Long) && (rightValue instanceof Integer || rightValue instanceof Long)) {
+                return evaluate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return null;
+        }
+        
+        private Integer evaluate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? null : leftValue % rightValue;
+            }
+        }
+        
+        private Long evaluate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? null : leftValue % rightValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.BinaryOperationNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.ExpressionNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.LiteralNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.NegativeNode;
+import org.apache.shardingsphere.infra.util.expr.CompiledInlineExpression.VariableNode;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>
+ * Compile inline expression which only concatenates literal text with integral arithmetic of variables, such as {@code t_order_${user_id % 16}}.
+ * Addition, subtraction, multiplication, remainder, negation and parentheses are supported.
+ * Inline expression with any other construct, such as method call, division or string operation, is not compiled and should be evaluated by Groovy.
+ * </p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private final String expression;
+    
+    private int position;
+    
+    private InlineExpressionCompiler(final String expression) {
+        this.expression = expression;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if inline expression is not supported
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        return null == inlineExpression ? Optional.empty() : new InlineExpressionCompiler(inlineExpression).compile();
+    }
+    
+    private Optional<CompiledInlineExpression> compile() {
+        List<Object> segments = new LinkedList<>();
+        StringBuilder text = new StringBuilder();
+        while (position < expression.length()) {
+            char current = expression.charAt(position);
+            if ('$' == current) {
+                if (position + 1 >= expression.length() || '{' != expression.charAt(position + 1)) {
+                    return Optional.empty();
+                }
+                if (text.length() > 0) {
+                    segments.add(text.toString());
+                    text.setLength(0);
+                }
+                position += 2;
+                Optional<ExpressionNode> node = parseInterpolation();
+                if (!node.isPresent()) {
+                    return Optional.empty();
+                }
+                segments.add(node.get());
+                continue;
+            }
+            if ('"' == current || '\\' == current || '{' == current || '}' == current) {
+                return Optional.empty();
+            }
+            text.append(current);
+            position++;
+        }
+        if (text.length() > 0) {
+            segments.add(text.toString());
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    private Optional<ExpressionNode> parseInterpolation() {
+        skipWhitespaces();
+        if (position < expression.length() && isIdentifierStart(expression.charAt(position))) {
+            int start = position;
+            String identifier = nextIdentifier();
+            skipWhitespaces();
+            if (position < expression.length() && '}' == expression.charAt(position)) {
+                position++;
+                return Optional.of(new VariableNode(identifier, false));
+            }
+            position = start;
+        }
+        Optional<ExpressionNode> result = parseAdditive();
+        skipWhitespaces();
+        if (!result.isPresent() || position >= expression.length() || '}' != expression.charAt(position)) {
+            return Optional.empty();
+        }
+        position++;
+        return result;
+    }
+    
+    private Optional<ExpressionNode> parseAdditive() {
+        Optional<ExpressionNode> result = parseMultiplicative();
+        while (result.isPresent() && nextOperatorIn("+-")) {
+            char operator = expression.charAt(position++);
+            Optional<ExpressionNode> right = parseMultiplicative();
+            result = right.isPresent() ? Optional.of(new BinaryOperationNode(operator, result.get(), right.get())) : Optional.empty();
+        }
+        return result;
+    }
+    
+    private Optional<ExpressionNode> parseMultiplicative() {
+        Optional<ExpressionNode> result = parseUnary();
+        while (result.isPresent() && nextOperatorIn("*%")) {
+            char operator = expression.charAt(position++);
+            Optional<ExpressionNode> right = parseUnary();
+            result = right.isPresent() ? Optional.of(new BinaryOperationNode(operator, result.get(), right.get())) : Optional.empty();
+        }
+        return result;
+    }
+    
+    private Optional<ExpressionNode> parseUnary() {
+        skipWhitespaces();
+        if (position >= expression.length()) {
+            return Optional.empty();
+        }
+        char current = expression.charAt(position);
+        if ('-' == current) {
+            position++;
+            return parseUnary().map(NegativeNode::new);
+        }
+        if ('(' == current) {
+            position++;
+            Optional<ExpressionNode> result = parseAdditive();
+            skipWhitespaces();
+            if (!result.isPresent() || position >= expression.length() || ')' != expression.charAt(position)) {
+                return Optional.empty();
+            }
+            position++;
+            return result;
+        }
+        if (Character.isDigit(current)) {
+            return parseNumber();
+        }
+        return isIdentifierStart(current) ? Optional.of(new VariableNode(nextIdentifier(), true)) : Optional.empty();
+    }
+    
+    private Optional<ExpressionNode> parseNumber() {
+        int start = position;
+        while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+            position++;
+        }
+        if (position < expression.length() && (Character.isLetter(expression.charAt(position)) || '.' == expression.charAt(position) || '_' == expression.charAt(position))) {
+            return Optional.empty();
+        }
+        String text = expression.substring(start, position);
+        if (text.length() > 1 && '0' == text.charAt(0)) {
+            return Optional.empty();
+        }
+        long value;
+        try {
+            value = Long.parseLong(text);
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+        return Optional.of(value > Integer.MAX_VALUE ? new LiteralNode(value) : new LiteralNode((int) value));
+    }
+    
+    private boolean nextOperatorIn(final String operators) {
+        skipWhitespaces();
+        return position < expression.length() && operators.indexOf(expression.charAt(position)) >= 0;
+    }
+    
+    private String nextIdentifier() {
+        int start = position;
+        while (position < expression.length() && isIdentifierPart(expression.charAt(position))) {
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+    
+    private void skipWhitespaces() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return Character.isLetter(ch) || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch;
+    }
+}
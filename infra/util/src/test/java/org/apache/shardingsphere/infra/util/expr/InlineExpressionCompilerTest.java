@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertEvaluateModulo() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${user_id % 16}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("user_id", 35)), is(Optional.of("t_order_3")));
+        assertThat(actual.get().evaluate(Collections.singletonMap("user_id", 35L)), is(Optional.of("t_order_3")));
+    }
+    
+    @Test
+    public void assertEvaluateMultipleInterpolations() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("ds_${(user_id + 1) % 2}.t_order_${order_id * 2 - -1}");
+        assertTrue(actual.isPresent());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 2);
+        variables.put("order_id", 3L);
+        assertThat(actual.get().evaluate(variables), is(Optional.of("ds_1.t_order_7")));
+    }
+    
+    @Test
+    public void assertEvaluateStringVariable() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${status}");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("status", "init")), is(Optional.of("t_order_init")));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = InlineExpressionCompiler.compile("t_order_${user_id % 2}");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("user_id", "1")).isPresent());
+        assertFalse(actual.get().evaluate(Collections.singletonMap("order_id", 1)).isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 0}").get().evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id / 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id.hashCode() % 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${Math.abs(user_id) % 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${0..1}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$user_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 2").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${1.5}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${'a'}").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        String[] expressions = {"t_${id % 7}", "t_${-id % 3}", "t_${(id - 5) * 3 % 4}", "t_${id * 2147483647}", "t_${id + 2147483648 % 5}", "t_${id}"};
+        Object[] values = {0, 1, -1, 13, -13, Integer.MAX_VALUE, Integer.MIN_VALUE, 13L, -13L, Long.MAX_VALUE, (short) 9, (byte) -9};
+        for (String each : expressions) {
+            CompiledInlineExpression compiledExpression = InlineExpressionCompiler.compile(each).get();
+            for (Object value : values) {
+                Closure<?> closure = new InlineExpressionParser(each).evaluateClosure().rehydrate(new Expando(), null, null);
+                closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+                closure.setProperty("id", value);
+                assertThat(each + " with " + value, compiledExpression.evaluate(Collections.singletonMap("id", value)), is(Optional.of(closure.call().toString())));
+            }
+        }
+    }
+}
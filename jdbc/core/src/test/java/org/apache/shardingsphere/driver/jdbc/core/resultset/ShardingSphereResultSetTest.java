@@ -60,6 +60,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereResultSetTest {
@@ -114,6 +115,13 @@ public final class ShardingSphereResultSetTest {
         assertFalse(shardingSphereResultSet.wasNull());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        assertTrue(shardingSphereResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     public void assertGetBooleanWithColumnIndex() throws SQLException {
         when(mergeResultSet.getValue(1, boolean.class)).thenReturn(true);
@@ -75,4 +75,14 @@ public final class DataConsistencyCalculateParameter {
     private volatile Object previousCalculatedResult;
     
     private final Object tableCheckPosition;
+    
+    /**
+     * Pipeline job id, it could be used to persist calculation state between checks.
+     */
+    private volatile String jobId;
+    
+    /**
+     * Whether it's source side or target side.
+     */
+    private volatile boolean sourceSide;
 }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.task.progress;
+
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Incremental task dirty ranges.
+ *
+ * <p>
+ * Unique key values changed by incremental task are merged into ranges, every recording increases the version of ranges it touches.
+ * Closest ranges are merged if there are too many ranges, so ranges could cover unchanged values, but never miss changed values.
+ * Values which could not be converted to long mark the whole range as dirty.
+ * </p>
+ */
+@ToString
+public final class IncrementalTaskDirtyRanges {
+    
+    private static final int MAX_RANGES_COUNT = 256;
+    
+    private final NavigableMap<Long, IncrementalTaskDirtyRange> ranges = new TreeMap<>();
+    
+    private long version;
+    
+    /**
+     * Record changed unique key values.
+     *
+     * @param uniqueKeyValues changed unique key values, null values are ignored
+     */
+    public synchronized void record(final Collection<Object> uniqueKeyValues) {
+        if (uniqueKeyValues.isEmpty()) {
+            return;
+        }
+        version++;
+        for (Object each : uniqueKeyValues) {
+            if (null == each) {
+                continue;
+            }
+            Optional<Long> value = toLong(each);
+            if (value.isPresent()) {
+                mergeRange(value.get(), value.get(), version);
+            } else {
+                mergeRange(Long.MIN_VALUE, Long.MAX_VALUE, version);
+            }
+        }
+        while (ranges.size() > MAX_RANGES_COUNT) {
+            mergeClosestRanges();
+        }
+    }
+    
+    private Optional<Long> toLong(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Optional.of(((Number) value).longValue());
+        }
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE) {
+            return Optional.of(((BigInteger) value).longValue());
+        }
+        if (value instanceof BigDecimal) {
+            try {
+                return Optional.of(((BigDecimal) value).longValueExact());
+            } catch (final ArithmeticException ignored) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private void mergeRange(final long lowerBound, final long upperBound, final long rangeVersion) {
+        long mergedLowerBound = lowerBound;
+        long mergedUpperBound = upperBound;
+        long mergedVersion = rangeVersion;
+        Entry<Long, IncrementalTaskDirtyRange> floorEntry = ranges.floorEntry(lowerBound);
+        if (null != floorEntry && isConnected(floorEntry.getValue().getUpperBound(), lowerBound)) {
+            mergedLowerBound = floorEntry.getKey();
+            mergedUpperBound = Math.max(mergedUpperBound, floorEntry.getValue().getUpperBound());
+            mergedVersion = Math.max(mergedVersion, floorEntry.getValue().getVersion());
+            ranges.remove(floorEntry.getKey());
+        }
+        Entry<Long, IncrementalTaskDirtyRange> nextEntry = ranges.ceilingEntry(mergedLowerBound);
+        while (null != nextEntry && isConnected(mergedUpperBound, nextEntry.getKey())) {
+            mergedUpperBound = Math.max(mergedUpperBound, nextEntry.getValue().getUpperBound());
+            mergedVersion = Math.max(mergedVersion, nextEntry.getValue().getVersion());
+            ranges.remove(nextEntry.getKey());
+            nextEntry = ranges.ceilingEntry(mergedLowerBound);
+        }
+        ranges.put(mergedLowerBound, new IncrementalTaskDirtyRange(mergedLowerBound, mergedUpperBound, mergedVersion));
+    }
+    
+    private boolean isConnected(final long upperBound, final long nextLowerBound) {
+        return upperBound >= nextLowerBound || upperBound + 1L == nextLowerBound;
+    }
+    
+    private void mergeClosestRanges() {
+        IncrementalTaskDirtyRange closestRange = null;
+        long closestGap = -1L;
+        IncrementalTaskDirtyRange previous = null;
+        for (IncrementalTaskDirtyRange each : ranges.values()) {
+            // Ranges are sorted and not connected, so the gap is positive and fits unsigned long.
+            if (null != previous && (null == closestRange || Long.compareUnsigned(each.getLowerBound() - previous.getUpperBound(), closestGap) < 0)) {
+                closestRange = previous;
+                closestGap = each.getLowerBound() - previous.getUpperBound();
+            }
+            previous = each;
+        }
+        if (null == closestRange) {
+            return;
+        }
+        IncrementalTaskDirtyRange nextRange = ranges.higherEntry(closestRange.getLowerBound()).getValue();
+        ranges.remove(nextRange.getLowerBound());
+        ranges.put(closestRange.getLowerBound(),
+                new IncrementalTaskDirtyRange(closestRange.getLowerBound(), nextRange.getUpperBound(), Math.max(closestRange.getVersion(), nextRange.getVersion())));
+    }
+    
+    /**
+     * Add ranges, which are usually loaded from persisted progress.
+     *
+     * @param dirtyRanges dirty ranges
+     */
+    public synchronized void addRanges(final Collection<IncrementalTaskDirtyRange> dirtyRanges) {
+        for (IncrementalTaskDirtyRange each : dirtyRanges) {
+            mergeRange(each.getLowerBound(), each.getUpperBound(), each.getVersion());
+            version = Math.max(version, each.getVersion());
+        }
+    }
+    
+    /**
+     * Get ranges sorted by lower bound.
+     *
+     * @return ranges
+     */
+    public synchronized List<IncrementalTaskDirtyRange> getRanges() {
+        List<IncrementalTaskDirtyRange> result = new ArrayList<>(ranges.size());
+        for (IncrementalTaskDirtyRange each : ranges.values()) {
+            result.add(new IncrementalTaskDirtyRange(each.getLowerBound(), each.getUpperBound(), each.getVersion()));
+        }
+        return result;
+    }
+}
@@ -74,6 +74,25 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord);
     
+    /**
+     * Build multiple rows insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return multiple rows insert SQL
+     */
+    String buildMultiRowInsertSQL(String schemaName, DataRecord dataRecord, int rowCount);
+    
+    /**
+     * Judge whether insert SQL built by this builder overwrites existing row with the same unique key.
+     *
+     * @return insert SQL is upsert or not
+     */
+    default boolean isUpsertSupported() {
+        return false;
+    }
+    
     /**
      * Build update SQL.
      *
@@ -151,6 +170,16 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build unique key minimum and maximum values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return min max unique key values SQL
+     */
+    String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.task.progress;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class IncrementalTaskDirtyRangesTest {
+    
+    @Test
+    public void assertRecordMergesConnectedValues() {
+        IncrementalTaskDirtyRanges dirtyRanges = new IncrementalTaskDirtyRanges();
+        dirtyRanges.record(Arrays.asList(1, 2L, 5, null));
+        dirtyRanges.record(Arrays.asList(3, new BigDecimal("10")));
+        List<IncrementalTaskDirtyRange> actual = dirtyRanges.getRanges();
+        assertThat(actual.size(), is(3));
+        assertRange(actual.get(0), 1L, 3L, 2L);
+        assertRange(actual.get(1), 5L, 5L, 1L);
+        assertRange(actual.get(2), 10L, 10L, 2L);
+        dirtyRanges.record(Collections.singletonList(4));
+        actual = dirtyRanges.getRanges();
+        assertThat(actual.size(), is(2));
+        assertRange(actual.get(0), 1L, 5L, 3L);
+        assertRange(actual.get(1), 10L, 10L, 2L);
+    }
+    
+    @Test
+    public void assertRecordNotIntegralValue() {
+        IncrementalTaskDirtyRanges dirtyRanges = new IncrementalTaskDirtyRanges();
+        dirtyRanges.record(Collections.singletonList(1));
+        dirtyRanges.record(Collections.singletonList("a"));
+        List<IncrementalTaskDirtyRange> actual = dirtyRanges.getRanges();
+        assertThat(actual.size(), is(1));
+        assertRange(actual.get(0), Long.MIN_VALUE, Long.MAX_VALUE, 2L);
+    }
+    
+    @Test
+    public void assertRecordMergesClosestRangesWhenTooMany() {
+        IncrementalTaskDirtyRanges dirtyRanges = new IncrementalTaskDirtyRanges();
+        for (int i = 0; i < 256; i++) {
+            dirtyRanges.record(Collections.singletonList(i * 10));
+        }
+        dirtyRanges.record(Collections.singletonList(2551));
+        List<IncrementalTaskDirtyRange> actual = dirtyRanges.getRanges();
+        assertThat(actual.size(), is(256));
+        assertRange(actual.get(255), 2550L, 2551L, 257L);
+        dirtyRanges.record(Collections.singletonList(Long.MAX_VALUE));
+        actual = dirtyRanges.getRanges();
+        assertThat(actual.size(), is(256));
+        assertRange(actual.get(0), 0L, 10L, 2L);
+        assertRange(actual.get(255), Long.MAX_VALUE, Long.MAX_VALUE, 258L);
+    }
+    
+    @Test
+    public void assertAddRanges() {
+        IncrementalTaskDirtyRanges dirtyRanges = new IncrementalTaskDirtyRanges();
+        dirtyRanges.addRanges(Arrays.asList(new IncrementalTaskDirtyRange(1L, 3L, 5L), new IncrementalTaskDirtyRange(7L, 8L, 2L)));
+        dirtyRanges.record(Collections.singletonList(8));
+        List<IncrementalTaskDirtyRange> actual = dirtyRanges.getRanges();
+        assertThat(actual.size(), is(2));
+        assertRange(actual.get(0), 1L, 3L, 5L);
+        assertRange(actual.get(1), 7L, 8L, 6L);
+    }
+    
+    private void assertRange(final IncrementalTaskDirtyRange actual, final long lowerBound, final long upperBound, final long version) {
+        assertThat(actual.getLowerBound(), is(lowerBound));
+        assertThat(actual.getUpperBound(), is(upperBound));
+        assertThat(actual.getVersion(), is(version));
+    }
+}
@@ -107,6 +107,24 @@ public interface GovernanceRepositoryAPI {
      */
     Collection<String> listCheckJobIds(String jobId);
     
+    /**
+     * Get check Merkle tree.
+     *
+     * @param jobId job id
+     * @param treeName tree name
+     * @return check Merkle tree YAML text
+     */
+    Optional<String> getCheckMerkleTree(String jobId, String treeName);
+    
+    /**
+     * Persist check Merkle tree.
+     *
+     * @param jobId job id
+     * @param treeName tree name
+     * @param treeYamlText check Merkle tree YAML text
+     */
+    void persistCheckMerkleTree(String jobId, String treeName, String treeYamlText);
+    
     /**
      * Delete job.
      *
@@ -114,6 +114,16 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return repository.getChildrenKeys(PipelineMetaDataNode.getCheckJobIdsRootPath(jobId));
     }
     
+    @Override
+    public Optional<String> getCheckMerkleTree(final String jobId, final String treeName) {
+        return Optional.ofNullable(repository.getDirectly(PipelineMetaDataNode.getCheckMerkleTreePath(jobId, treeName)));
+    }
+    
+    @Override
+    public void persistCheckMerkleTree(final String jobId, final String treeName, final String treeYamlText) {
+        repository.persist(PipelineMetaDataNode.getCheckMerkleTreePath(jobId, treeName), treeYamlText);
+    }
+    
     @Override
     public void deleteJob(final String jobId) {
         repository.delete(PipelineMetaDataNode.getJobRootPath(jobId));
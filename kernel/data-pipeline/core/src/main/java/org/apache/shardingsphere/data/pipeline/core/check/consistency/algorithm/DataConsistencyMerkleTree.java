@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Data consistency Merkle tree.
+ *
+ * <p>Leaves are hashes of unique key buckets ordered by unique key, parents are ordered combination of children.</p>
+ */
+public final class DataConsistencyMerkleTree {
+    
+    private final List<Leaf> leaves;
+    
+    private final List<HashCode[]> levels = new ArrayList<>();
+    
+    public DataConsistencyMerkleTree(final List<Leaf> leaves) {
+        this.leaves = leaves;
+        HashCode[] level = new HashCode[leaves.size()];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = leaves.get(i).getHash();
+        }
+        levels.add(level);
+        while (level.length > 1) {
+            HashCode[] parentLevel = new HashCode[(level.length + 1) / 2];
+            for (int i = 0; i < parentLevel.length; i++) {
+                parentLevel[i] = 2 * i + 1 < level.length ? Hashing.combineOrdered(Arrays.asList(level[2 * i], level[2 * i + 1])) : level[2 * i];
+            }
+            levels.add(parentLevel);
+            level = parentLevel;
+        }
+    }
+    
+    /**
+     * Get root hash.
+     *
+     * @return root hash, null if there is no leaf
+     */
+    public HashCode getRootHash() {
+        HashCode[] rootLevel = levels.get(levels.size() - 1);
+        return 0 == rootLevel.length ? null : rootLevel[0];
+    }
+    
+    /**
+     * Get leaves count.
+     *
+     * @return leaves count
+     */
+    public int getLeavesCount() {
+        return leaves.size();
+    }
+    
+    /**
+     * Find leaves which are different from another tree, only subtrees with different hash are descended.
+     *
+     * @param another another Merkle tree
+     * @return different leaves of this tree
+     */
+    public Collection<Leaf> findDifferentLeaves(final DataConsistencyMerkleTree another) {
+        Collection<Leaf> result = new LinkedList<>();
+        if (leaves.size() != another.leaves.size()) {
+            result.addAll(leaves);
+            return result;
+        }
+        if (!leaves.isEmpty()) {
+            findDifferentLeaves(another, levels.size() - 1, 0, result);
+        }
+        return result;
+    }
+    
+    private void findDifferentLeaves(final DataConsistencyMerkleTree another, final int levelIndex, final int nodeIndex, final Collection<Leaf> result) {
+        if (levels.get(levelIndex)[nodeIndex].equals(another.levels.get(levelIndex)[nodeIndex])) {
+            return;
+        }
+        if (0 == levelIndex) {
+            result.add(leaves.get(nodeIndex));
+            return;
+        }
+        int childLevelSize = levels.get(levelIndex - 1).length;
+        for (int childIndex = 2 * nodeIndex; childIndex <= 2 * nodeIndex + 1 && childIndex < childLevelSize; childIndex++) {
+            findDifferentLeaves(another, levelIndex - 1, childIndex, result);
+        }
+    }
+    
+    /**
+     * Merkle tree leaf, which covers records in a unique key bucket.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class Leaf {
+        
+        private final HashCode hash;
+        
+        private final Object minUniqueKeyValue;
+        
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordsCount;
+        
+        @Override
+        public String toString() {
+            return String.format("[%s, %s](%d records)", minUniqueKeyValue, maxUniqueKeyValue, recordsCount);
+        }
+    }
+}
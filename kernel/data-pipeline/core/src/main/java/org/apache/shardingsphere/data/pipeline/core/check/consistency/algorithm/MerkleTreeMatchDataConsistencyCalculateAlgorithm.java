@@ -0,0 +1,566 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.base.Strings;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDirtyRange;
+import org.apache.shardingsphere.data.pipeline.core.api.GovernanceRepositoryAPI;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineJobUniqueKeyDataTypeException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.ColumnValueReaderFactory;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlInventoryIncrementalJobItemProgress;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlJobItemIncrementalTasksProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.yaml.consistency.YamlDataConsistencyMerkleTree;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Merkle tree match data consistency calculate algorithm.
+ *
+ * <p>
+ * Records are hashed into fixed-width buckets of integer unique key, and bucket hashes are leaves of Merkle tree.
+ * Buckets of source side and target side are persisted for pipeline job, and later checks only recalculate buckets
+ * covered by unique key ranges which are changed by incremental tasks since previous check.
+ * </p>
+ */
+@Slf4j
+public final class MerkleTreeMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeFactory.getInstances().stream().map(DatabaseType::getType).collect(Collectors.toList());
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private static final HashCode EMPTY_BUCKET_HASH = HASH_FUNCTION.newHasher().hash();
+    
+    private static final String BUCKET_COUNT_KEY = "bucket-count";
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_BUCKET_COUNT = 1024;
+    
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    
+    private static final int MAX_BUCKETS_COUNT_FACTOR = 4;
+    
+    private static final byte NULL_TAG = 0;
+    
+    private static final byte NUMBER_TAG = 1;
+    
+    private static final byte STRING_TAG = 2;
+    
+    private static final byte BYTES_TAG = 3;
+    
+    private static final byte ARRAY_TAG = 4;
+    
+    private static final byte OTHER_TAG = 5;
+    
+    @Getter
+    private Properties props;
+    
+    private int bucketCount;
+    
+    private int chunkSize;
+    
+    private final Map<String, CompletableFuture<BucketLayout>> sourceBucketLayouts = new ConcurrentHashMap<>();
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        bucketCount = getPositiveIntegerProperty(props, BUCKET_COUNT_KEY, DEFAULT_BUCKET_COUNT);
+        chunkSize = getPositiveIntegerProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+    }
+    
+    private int getPositiveIntegerProperty(final Properties props, final String key, final int defaultValue) {
+        int result = Integer.parseInt(props.getProperty(key, defaultValue + ""));
+        if (result <= 0) {
+            log.warn("Invalid {}={}, use default value", key, result);
+            return defaultValue;
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param) {
+        if (null != param.getPreviousCalculatedResult()) {
+            return Optional.empty();
+        }
+        int uniqueKeyDataType = param.getUniqueKey().getDataType();
+        ShardingSpherePreconditions.checkState(PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType), () -> new UnsupportedPipelineJobUniqueKeyDataTypeException(uniqueKeyDataType));
+        CompletableFuture<BucketLayout> sourceBucketLayout = null;
+        if (param.isSourceSide()) {
+            String layoutKey = String.valueOf(param.getJobId());
+            sourceBucketLayouts.computeIfPresent(layoutKey, (key, value) -> value.isDone() ? null : value);
+            sourceBucketLayout = sourceBucketLayouts.computeIfAbsent(layoutKey, key -> new CompletableFuture<>());
+        }
+        try {
+            return Optional.of(calculate(param, sourceBucketLayout));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        } finally {
+            if (null != sourceBucketLayout && !sourceBucketLayout.isDone()) {
+                sourceBucketLayout.completeExceptionally(new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+            }
+        }
+    }
+    
+    private CalculatedResult calculate(final DataConsistencyCalculateParameter param, final CompletableFuture<BucketLayout> sourceBucketLayout) throws SQLException {
+        String jobId = param.getJobId();
+        String treeName = getTreeName(param);
+        Optional<YamlDataConsistencyMerkleTree> previousTree = null == jobId ? Optional.empty() : loadTree(jobId, treeName);
+        Map<Integer, List<IncrementalTaskDirtyRange>> dirtyRanges = null == jobId ? Collections.emptyMap() : loadDirtyRanges(jobId);
+        BucketLayout layout = null == sourceBucketLayout ? waitSourceBucketLayout(param) : publishSourceBucketLayout(param, sourceBucketLayout, previousTree.orElse(null));
+        NavigableMap<Long, Bucket> buckets = new TreeMap<>();
+        Optional<Collection<long[]>> dirtyBucketIndexRanges = previousTree.isPresent() && layout.equals(new BucketLayout(previousTree.get().getBucketOrigin(), previousTree.get().getBucketWidth()))
+                ? findDirtyBucketIndexRanges(layout, previousTree.get().getObservedDirtyVersions(), dirtyRanges)
+                : Optional.empty();
+        if (dirtyBucketIndexRanges.isPresent()) {
+            previousTree.get().getBuckets().forEach((key, value) -> buckets.put(key, Bucket.valueOf(value)));
+            for (long[] each : dirtyBucketIndexRanges.get()) {
+                buckets.subMap(each[0], true, each[1], true).clear();
+                scan(param, layout, layout.getLowerKey(each[0]), layout.getUpperKey(each[1]), buckets);
+            }
+            log.info("Recalculated dirty buckets, jobId={}, tree={}, dirty bucket index ranges count={}", jobId, treeName, dirtyBucketIndexRanges.get().size());
+        } else {
+            scan(param, layout, Long.MIN_VALUE, Long.MAX_VALUE, buckets);
+        }
+        if (null != jobId) {
+            PipelineAPIFactory.getGovernanceRepositoryAPI().persistCheckMerkleTree(jobId, treeName, YamlEngine.marshal(swapToYaml(layout, getMaxDirtyVersions(dirtyRanges), buckets)));
+        }
+        return new CalculatedResult(layout, buckets);
+    }
+    
+    private String getTreeName(final DataConsistencyCalculateParameter param) {
+        String tableName = Strings.isNullOrEmpty(param.getSchemaName()) ? param.getLogicTableName() : param.getSchemaName() + "." + param.getLogicTableName();
+        return (param.isSourceSide() ? "source_" : "target_") + tableName;
+    }
+    
+    private Optional<YamlDataConsistencyMerkleTree> loadTree(final String jobId, final String treeName) {
+        Optional<String> yamlText = PipelineAPIFactory.getGovernanceRepositoryAPI().getCheckMerkleTree(jobId, treeName);
+        return yamlText.filter(each -> !each.isEmpty()).map(each -> YamlEngine.unmarshal(each, YamlDataConsistencyMerkleTree.class, true));
+    }
+    
+    private Map<Integer, List<IncrementalTaskDirtyRange>> loadDirtyRanges(final String jobId) {
+        GovernanceRepositoryAPI repositoryAPI = PipelineAPIFactory.getGovernanceRepositoryAPI();
+        Map<Integer, List<IncrementalTaskDirtyRange>> result = new HashMap<>();
+        for (int each : repositoryAPI.getShardingItems(jobId)) {
+            String yamlText = repositoryAPI.getJobItemProgress(jobId, each);
+            if (Strings.isNullOrEmpty(yamlText)) {
+                continue;
+            }
+            YamlJobItemIncrementalTasksProgress incrementalProgress = YamlEngine.unmarshal(yamlText, YamlInventoryIncrementalJobItemProgress.class, true).getIncremental();
+            result.put(each, null == incrementalProgress || null == incrementalProgress.getDirtyRanges() ? Collections.emptyList() : incrementalProgress.getDirtyRanges());
+        }
+        return result;
+    }
+    
+    private BucketLayout publishSourceBucketLayout(final DataConsistencyCalculateParameter param, final CompletableFuture<BucketLayout> sourceBucketLayout,
+                                                   final YamlDataConsistencyMerkleTree previousTree) throws SQLException {
+        BucketLayout result = null != previousTree && null != previousTree.getBuckets() && previousTree.getBuckets().size() <= bucketCount * MAX_BUCKETS_COUNT_FACTOR
+                ? new BucketLayout(previousTree.getBucketOrigin(), previousTree.getBucketWidth())
+                : createBucketLayout(param);
+        sourceBucketLayout.complete(result);
+        return result;
+    }
+    
+    private BucketLayout createBucketLayout(final DataConsistencyCalculateParameter param) throws SQLException {
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(param.getDatabaseType());
+        String sql = sqlBuilder.buildUniqueKeyMinMaxValuesSQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName());
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql));
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            Number minValue = (Number) resultSet.getObject(1);
+            Number maxValue = (Number) resultSet.getObject(2);
+            if (null == minValue || null == maxValue) {
+                return new BucketLayout(0L, 1L);
+            }
+            BigInteger span = BigInteger.valueOf(maxValue.longValue()).subtract(BigInteger.valueOf(minValue.longValue())).add(BigInteger.ONE);
+            BigInteger width = span.add(BigInteger.valueOf(bucketCount - 1)).divide(BigInteger.valueOf(bucketCount));
+            return new BucketLayout(minValue.longValue(), width.longValue());
+        }
+    }
+    
+    private BucketLayout waitSourceBucketLayout(final DataConsistencyCalculateParameter param) {
+        String layoutKey = String.valueOf(param.getJobId());
+        CompletableFuture<BucketLayout> sourceBucketLayout = sourceBucketLayouts.computeIfAbsent(layoutKey, key -> new CompletableFuture<>());
+        try {
+            return sourceBucketLayout.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        } finally {
+            sourceBucketLayouts.remove(layoutKey, sourceBucketLayout);
+        }
+    }
+    
+    private Optional<Collection<long[]>> findDirtyBucketIndexRanges(final BucketLayout layout, final Map<Integer, Long> observedDirtyVersions,
+                                                                    final Map<Integer, List<IncrementalTaskDirtyRange>> dirtyRanges) {
+        Map<Integer, Long> maxDirtyVersions = getMaxDirtyVersions(dirtyRanges);
+        Map<Integer, Long> observedVersions = null == observedDirtyVersions ? Collections.emptyMap() : observedDirtyVersions;
+        for (Entry<Integer, Long> entry : observedVersions.entrySet()) {
+            if (maxDirtyVersions.getOrDefault(entry.getKey(), 0L) < entry.getValue()) {
+                log.info("Dirty ranges version of sharding item {} is reset, recalculate all buckets", entry.getKey());
+                return Optional.empty();
+            }
+        }
+        List<long[]> bucketIndexRanges = new ArrayList<>();
+        for (Entry<Integer, List<IncrementalTaskDirtyRange>> entry : dirtyRanges.entrySet()) {
+            long observedVersion = observedVersions.getOrDefault(entry.getKey(), 0L);
+            for (IncrementalTaskDirtyRange each : entry.getValue()) {
+                if (each.getVersion() > observedVersion) {
+                    bucketIndexRanges.add(new long[]{layout.getBucketIndex(each.getLowerBound()), layout.getBucketIndex(each.getUpperBound())});
+                }
+            }
+        }
+        bucketIndexRanges.sort(Comparator.comparingLong(each -> each[0]));
+        Collection<long[]> result = new LinkedList<>();
+        long[] current = null;
+        for (long[] each : bucketIndexRanges) {
+            if (null != current && (current[1] >= each[0] || current[1] + 1L == each[0])) {
+                current[1] = Math.max(current[1], each[1]);
+            } else {
+                current = each;
+                result.add(current);
+            }
+        }
+        long dirtyBucketsCount = 0L;
+        for (long[] each : result) {
+            // Upper index is not less than lower index, so unsigned difference is exact.
+            if (Long.compareUnsigned(each[1] - each[0], bucketCount) >= 0) {
+                return Optional.empty();
+            }
+            dirtyBucketsCount += each[1] - each[0] + 1L;
+        }
+        return dirtyBucketsCount > bucketCount / 2 ? Optional.empty() : Optional.of(result);
+    }
+    
+    private Map<Integer, Long> getMaxDirtyVersions(final Map<Integer, List<IncrementalTaskDirtyRange>> dirtyRanges) {
+        Map<Integer, Long> result = new TreeMap<>();
+        for (Entry<Integer, List<IncrementalTaskDirtyRange>> entry : dirtyRanges.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().stream().mapToLong(IncrementalTaskDirtyRange::getVersion).max().orElse(0L));
+        }
+        return result;
+    }
+    
+    private void scan(final DataConsistencyCalculateParameter param, final BucketLayout layout, final long lowerKey, final long upperKey,
+                      final NavigableMap<Long, Bucket> buckets) throws SQLException {
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(param.getDatabaseType());
+        String uniqueKey = param.getUniqueKey().getName();
+        int uniqueKeyDataType = param.getUniqueKey().getDataType();
+        String firstSQL = sqlBuilder.buildDivisibleInventoryDumpSQL(param.getSchemaName(), param.getLogicTableName(), uniqueKey, uniqueKeyDataType, true);
+        String laterSQL = sqlBuilder.buildDivisibleInventoryDumpSQL(param.getSchemaName(), param.getLogicTableName(), uniqueKey, uniqueKeyDataType, false);
+        BucketsCollector collector = new BucketsCollector(layout, buckets, ColumnValueReaderFactory.getInstance(param.getDatabaseType()), param.getUniqueKey().getOrdinalPosition());
+        try (Connection connection = param.getDataSource().getConnection()) {
+            int recordsCount;
+            do {
+                Long lastKey = collector.getLastKey();
+                recordsCount = scanChunk(param, connection, null == lastKey ? firstSQL : laterSQL, null == lastKey ? lowerKey : lastKey, upperKey, collector);
+            } while (recordsCount == chunkSize);
+        }
+        collector.finish();
+    }
+    
+    private int scanChunk(final DataConsistencyCalculateParameter param, final Connection connection, final String sql, final long lowerKey, final long upperKey,
+                          final BucketsCollector collector) throws SQLException {
+        try (PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql))) {
+            preparedStatement.setFetchSize(chunkSize);
+            preparedStatement.setObject(1, lowerKey);
+            preparedStatement.setObject(2, upperKey);
+            preparedStatement.setInt(3, chunkSize);
+            int result = 0;
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (isCanceling()) {
+                        throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName());
+                    }
+                    collector.add(resultSet);
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
+    
+    private YamlDataConsistencyMerkleTree swapToYaml(final BucketLayout layout, final Map<Integer, Long> observedDirtyVersions, final NavigableMap<Long, Bucket> buckets) {
+        YamlDataConsistencyMerkleTree result = new YamlDataConsistencyMerkleTree();
+        result.setBucketOrigin(layout.getOrigin());
+        result.setBucketWidth(layout.getWidth());
+        result.setObservedDirtyVersions(observedDirtyVersions);
+        Map<Long, String> yamlBuckets = new LinkedHashMap<>(buckets.size(), 1F);
+        buckets.forEach((key, value) -> yamlBuckets.put(key, value.toString()));
+        result.setBuckets(yamlBuckets);
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "MERKLE_TREE_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Match Merkle tree hashes of records.";
+    }
+    
+    /**
+     * Fixed-width buckets of unique key, bucket index is floor((key - origin) / width).
+     */
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    static final class BucketLayout {
+        
+        private final long origin;
+        
+        private final long width;
+        
+        long getBucketIndex(final long key) {
+            long offset = key - origin;
+            if (((key ^ origin) & (key ^ offset)) >= 0L) {
+                return Math.floorDiv(offset, width);
+            }
+            BigInteger[] quotientAndRemainder = BigInteger.valueOf(key).subtract(BigInteger.valueOf(origin)).divideAndRemainder(BigInteger.valueOf(width));
+            BigInteger result = quotientAndRemainder[1].signum() < 0 ? quotientAndRemainder[0].subtract(BigInteger.ONE) : quotientAndRemainder[0];
+            return clamp(result);
+        }
+        
+        long getLowerKey(final long bucketIndex) {
+            return Long.MIN_VALUE == bucketIndex ? Long.MIN_VALUE : clamp(BigInteger.valueOf(bucketIndex).multiply(BigInteger.valueOf(width)).add(BigInteger.valueOf(origin)));
+        }
+        
+        long getUpperKey(final long bucketIndex) {
+            return Long.MAX_VALUE == bucketIndex
+                    ? Long.MAX_VALUE
+                    : clamp(BigInteger.valueOf(bucketIndex).add(BigInteger.ONE).multiply(BigInteger.valueOf(width)).add(BigInteger.valueOf(origin)).subtract(BigInteger.ONE));
+        }
+        
+        private long clamp(final BigInteger value) {
+            return value.max(BigInteger.valueOf(Long.MIN_VALUE)).min(BigInteger.valueOf(Long.MAX_VALUE)).longValue();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    static final class Bucket {
+        
+        private final HashCode hash;
+        
+        private final int recordsCount;
+        
+        static Bucket valueOf(final String value) {
+            int index = value.indexOf(':');
+            return new Bucket(HashCode.fromString(value.substring(index + 1)), Integer.parseInt(value.substring(0, index)));
+        }
+        
+        @Override
+        public String toString() {
+            return recordsCount + ":" + hash;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BucketsCollector {
+        
+        private final BucketLayout layout;
+        
+        private final NavigableMap<Long, Bucket> buckets;
+        
+        private final ColumnValueReader columnValueReader;
+        
+        private final int uniqueKeyOrdinalPosition;
+        
+        @Getter
+        private Long lastKey;
+        
+        private long bucketIndex;
+        
+        private Hasher hasher;
+        
+        private int recordsCount;
+        
+        void add(final ResultSet resultSet) throws SQLException {
+            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            lastKey = ((Number) columnValueReader.readValue(resultSet, resultSetMetaData, uniqueKeyOrdinalPosition)).longValue();
+            long index = layout.getBucketIndex(lastKey);
+            if (null == hasher || index != bucketIndex) {
+                finish();
+                bucketIndex = index;
+                hasher = HASH_FUNCTION.newHasher();
+                recordsCount = 0;
+            }
+            int columnCount = resultSetMetaData.getColumnCount();
+            hasher.putInt(columnCount);
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                putValue(columnValueReader.readValue(resultSet, resultSetMetaData, columnIndex));
+            }
+            recordsCount++;
+        }
+        
+        void finish() {
+            if (null != hasher) {
+                buckets.put(bucketIndex, new Bucket(hasher.hash(), recordsCount));
+                hasher = null;
+            }
+        }
+        
+        private void putValue(final Object value) throws SQLException {
+            if (null == value) {
+                hasher.putByte(NULL_TAG);
+            } else if (value instanceof BigDecimal) {
+                BigDecimal decimal = (BigDecimal) value;
+                putTaggedString(NUMBER_TAG, 0 == decimal.signum() ? "0" : decimal.stripTrailingZeros().toPlainString());
+            } else if (value instanceof Number) {
+                putTaggedString(NUMBER_TAG, value.toString());
+            } else if (value instanceof String) {
+                putTaggedString(STRING_TAG, (String) value);
+            } else if (value instanceof SQLXML) {
+                putTaggedString(STRING_TAG, ((SQLXML) value).getString());
+            } else if (value instanceof byte[]) {
+                hasher.putByte(BYTES_TAG).putInt(((byte[]) value).length).putBytes((byte[]) value);
+            } else if (value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                hasher.putByte(ARRAY_TAG).putInt(length);
+                for (int i = 0; i < length; i++) {
+                    putValue(Array.get(value, i));
+                }
+            } else {
+                putTaggedString(OTHER_TAG, value.toString());
+            }
+        }
+        
+        private void putTaggedString(final byte tag, final String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            hasher.putByte(tag).putInt(bytes.length).putBytes(bytes);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        private final BucketLayout layout;
+        
+        private final NavigableMap<Long, Bucket> buckets;
+        
+        @Override
+        public int getRecordsCount() {
+            return buckets.values().stream().mapToInt(Bucket::getRecordsCount).sum();
+        }
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.empty();
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculatedResult)) {
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (!layout.equals(that.layout)) {
+                log.warn("Bucket layout not match, layout1={}, layout2={}", layout, that.layout);
+                return false;
+            }
+            NavigableSet<Long> bucketIndexes = new TreeSet<>(buckets.keySet());
+            bucketIndexes.addAll(that.buckets.keySet());
+            if (bucketIndexes.isEmpty()) {
+                return true;
+            }
+            DataConsistencyMerkleTree merkleTree = createMerkleTree(bucketIndexes);
+            DataConsistencyMerkleTree thatMerkleTree = that.createMerkleTree(bucketIndexes);
+            if (merkleTree.getRootHash().equals(thatMerkleTree.getRootHash())) {
+                return true;
+            }
+            log.warn("Merkle tree root hash not match, not matched unique key ranges={}", merkleTree.findDifferentLeaves(thatMerkleTree));
+            return false;
+        }
+        
+        private DataConsistencyMerkleTree createMerkleTree(final Collection<Long> bucketIndexes) {
+            List<DataConsistencyMerkleTree.Leaf> leaves = new ArrayList<>(bucketIndexes.size());
+            for (long each : bucketIndexes) {
+                Bucket bucket = buckets.get(each);
+                leaves.add(new DataConsistencyMerkleTree.Leaf(null == bucket ? EMPTY_BUCKET_HASH : bucket.getHash(),
+                        layout.getLowerKey(each), layout.getUpperKey(each), null == bucket ? 0 : bucket.getRecordsCount()));
+            }
+            return new DataConsistencyMerkleTree(leaves);
+        }
+        
+        @Override
+        public int hashCode() {
+            return layout.hashCode();
+        }
+    }
+}
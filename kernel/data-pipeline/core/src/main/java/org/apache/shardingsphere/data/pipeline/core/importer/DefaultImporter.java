@@ -48,6 +48,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -60,6 +62,8 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -116,12 +120,47 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         List<GroupedDataRecord> result = MERGER.group(dataRecords);
         for (GroupedDataRecord each : result) {
             flushInternal(dataSource, each.getDeleteDataRecords());
-            flushInternal(dataSource, each.getInsertDataRecords());
-            flushInternal(dataSource, each.getUpdateDataRecords());
+            List<DataRecord> upsertDataRecords = null == each.getInsertDataRecords() ? new ArrayList<>() : new ArrayList<>(each.getInsertDataRecords());
+            List<DataRecord> updateDataRecords = new ArrayList<>();
+            for (DataRecord updateDataRecord : null == each.getUpdateDataRecords() ? Collections.<DataRecord>emptyList() : each.getUpdateDataRecords()) {
+                if (isUpsertable(updateDataRecord)) {
+                    upsertDataRecords.add(createUpsertDataRecord(updateDataRecord));
+                } else {
+                    updateDataRecords.add(updateDataRecord);
+                }
+            }
+            flushInternal(dataSource, upsertDataRecords);
+            flushInternal(dataSource, updateDataRecords);
         }
         return new PipelineJobProgressUpdatedParameter(insertRecordNumber);
     }
     
+    private boolean isUpsertable(final DataRecord dataRecord) {
+        if (!pipelineSqlBuilder.isUpsertSupported()) {
+            return false;
+        }
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        boolean hasUniqueKey = false;
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUpdated() && (each.isUniqueKey() || shardingColumns.contains(each.getName()))) {
+                return false;
+            }
+            hasUniqueKey = hasUniqueKey || each.isUniqueKey();
+        }
+        return hasUniqueKey;
+    }
+    
+    private DataRecord createUpsertDataRecord(final DataRecord dataRecord) {
+        DataRecord result = new DataRecord(dataRecord.getPosition(), dataRecord.getColumnCount());
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName(dataRecord.getTableName());
+        result.setCommitTime(dataRecord.getCommitTime());
+        for (Column each : dataRecord.getColumns()) {
+            result.addColumn(new Column(each.getName(), each.getValue(), true, each.isUniqueKey()));
+        }
+        return result;
+    }
+    
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
         if (null == buffer || buffer.isEmpty()) {
             return;
@@ -173,18 +212,41 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        int fromIndex = 0;
+        for (int i = 1; i <= dataRecords.size(); i++) {
+            if (i == dataRecords.size() || (i - fromIndex + 1) * dataRecords.get(fromIndex).getColumnCount() > MAX_PARAMETER_COUNT
+                    || !isSameColumns(dataRecords.get(fromIndex), dataRecords.get(i))) {
+                executeMultiRowInsert(connection, dataRecords.subList(fromIndex, i));
+                fromIndex = i;
+            }
+        }
+    }
+    
+    private boolean isSameColumns(final DataRecord dataRecord, final DataRecord another) {
+        if (dataRecord.getColumnCount() != another.getColumnCount()) {
+            return false;
+        }
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (!dataRecord.getColumn(i).getName().equals(another.getColumn(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
+        String insertSql = pipelineSqlBuilder.buildMultiRowInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, dataRecords.size());
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
             batchInsertStatement = preparedStatement;
             preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
                 }
-                preparedStatement.addBatch();
             }
-            preparedStatement.executeBatch();
+            preparedStatement.executeUpdate();
         } finally {
             batchInsertStatement = null;
         }
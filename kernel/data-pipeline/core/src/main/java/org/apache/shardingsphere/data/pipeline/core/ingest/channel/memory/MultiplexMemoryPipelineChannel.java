@@ -25,12 +25,29 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Multiplex memory pipeline channel.
+ *
+ * <p>
+ * Data records which touch the same unique key are always dispatched to the same channel, including update records which change unique key,
+ * so records without conflict could be applied concurrently by importers of different channels.
+ * Acknowledged records are passed to ack callback in the same order as they are pushed,
+ * so that progress never moves beyond records which are not applied yet.
+ * </p>
  */
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
@@ -42,6 +59,16 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
+    private final AckCallback ackCallback;
+    
+    private final Map<DataRecord.Key, InFlightKey> inFlightKeys = new HashMap<>();
+    
+    private final Queue<Record> unackedRecords = new LinkedList<>();
+    
+    private final Map<Record, Integer> ackedRecordCounts = new IdentityHashMap<>();
+    
+    private volatile boolean closed;
+    
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
     }
@@ -55,10 +82,15 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, callback -> new SimpleMemoryPipelineChannel(blockQueueSize, callback), ackCallback);
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Function<AckCallback, PipelineChannel> channelCreator, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
+        this.ackCallback = ackCallback;
         channels = new PipelineChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            channels[i] = channelCreator.apply(this::onChannelAck);
         }
     }
     
@@ -69,7 +101,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushRecord(record, assignChannel((DataRecord) record));
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, 0);
         } else {
@@ -78,10 +110,61 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private void pushRecord(final Record record, final int channelIndex) {
+        synchronized (this) {
+            unackedRecords.add(record);
+        }
         PipelineChannel channel = channels[channelIndex];
         channel.pushRecord(record);
     }
     
+    private synchronized int assignChannel(final DataRecord record) {
+        Collection<DataRecord.Key> keys = getKeys(record);
+        Set<Integer> inFlightChannelIndexes = getInFlightChannelIndexes(keys);
+        while (inFlightChannelIndexes.size() > 1 && !closed) {
+            waitForAck();
+            inFlightChannelIndexes = getInFlightChannelIndexes(keys);
+        }
+        int result = inFlightChannelIndexes.isEmpty() ? Math.abs(record.hashCode() % channelNumber) : inFlightChannelIndexes.iterator().next();
+        for (DataRecord.Key each : keys) {
+            InFlightKey inFlightKey = inFlightKeys.get(each);
+            if (null == inFlightKey) {
+                inFlightKeys.put(each, new InFlightKey(result));
+            } else {
+                inFlightKey.recordCount++;
+            }
+        }
+        return result;
+    }
+    
+    private Set<Integer> getInFlightChannelIndexes(final Collection<DataRecord.Key> keys) {
+        Set<Integer> result = new HashSet<>(2, 1);
+        for (DataRecord.Key each : keys) {
+            InFlightKey inFlightKey = inFlightKeys.get(each);
+            if (null != inFlightKey) {
+                result.add(inFlightKey.channelIndex);
+            }
+        }
+        return result;
+    }
+    
+    private void waitForAck() {
+        try {
+            wait(100L);
+        } catch (final InterruptedException ex) {
+            throw new RuntimeException("wait for conflict records acknowledged failed", ex);
+        }
+    }
+    
+    private Collection<DataRecord.Key> getKeys(final DataRecord record) {
+        if (record.getOldUniqueKeyValues().stream().allMatch(Objects::isNull) || record.getOldUniqueKeyValues().equals(record.getUniqueKeyValue())) {
+            return Collections.singletonList(record.getKey());
+        }
+        Collection<DataRecord.Key> result = new ArrayList<>(2);
+        result.add(record.getOldKey());
+        result.add(record.getKey());
+        return result;
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         return findChannel().fetchRecords(batchSize, timeoutSeconds);
@@ -92,6 +175,39 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         findChannel().ack(records);
     }
     
+    private void onChannelAck(final List<Record> records) {
+        List<Record> orderedRecords = new LinkedList<>();
+        synchronized (this) {
+            for (Record each : records) {
+                ackedRecordCounts.merge(each, 1, Integer::sum);
+                if (each instanceof DataRecord) {
+                    releaseKeys((DataRecord) each);
+                }
+            }
+            while (!unackedRecords.isEmpty() && ackedRecordCounts.containsKey(unackedRecords.peek())) {
+                Record record = unackedRecords.poll();
+                int ackedCount = ackedRecordCounts.remove(record);
+                if (ackedCount > 1) {
+                    ackedRecordCounts.put(record, ackedCount - 1);
+                }
+                orderedRecords.add(record);
+            }
+            notifyAll();
+        }
+        if (!orderedRecords.isEmpty()) {
+            ackCallback.onAck(new ArrayList<>(orderedRecords));
+        }
+    }
+    
+    private void releaseKeys(final DataRecord record) {
+        for (DataRecord.Key each : getKeys(record)) {
+            InFlightKey inFlightKey = inFlightKeys.get(each);
+            if (null != inFlightKey && 0 == --inFlightKey.recordCount) {
+                inFlightKeys.remove(each);
+            }
+        }
+    }
+    
     private PipelineChannel findChannel() {
         String threadId = Long.toString(Thread.currentThread().getId());
         checkAssignment(threadId);
@@ -119,8 +235,23 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
         for (PipelineChannel each : channels) {
             each.close();
         }
     }
+    
+    private static final class InFlightKey {
+        
+        private final int channelIndex;
+        
+        private int recordCount = 1;
+        
+        private InFlightKey(final int channelIndex) {
+            this.channelIndex = channelIndex;
+        }
+    }
 }
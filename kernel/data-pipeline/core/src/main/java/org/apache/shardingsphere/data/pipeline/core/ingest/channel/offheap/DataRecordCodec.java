@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Optional;
+
+/**
+ * Data record codec.
+ *
+ * <p>
+ * Encode data record into compact bytes without position, which is kept by caller.
+ * Only values of common JDBC types are supported, data record with other value types can not be encoded.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataRecordCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    /**
+     * Encode data record.
+     *
+     * @param dataRecord data record
+     * @return encoded bytes, empty if there are values can not be encoded
+     */
+    public static Optional<byte[]> encode(final DataRecord dataRecord) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(64 * (dataRecord.getColumnCount() + 1));
+        DataOutputStream out = new DataOutputStream(result);
+        try {
+            writeString(out, dataRecord.getType());
+            writeString(out, dataRecord.getTableName());
+            out.writeLong(dataRecord.getCommitTime());
+            out.writeInt(dataRecord.getColumnCount());
+            for (Column each : dataRecord.getColumns()) {
+                writeString(out, each.getName());
+                out.writeBoolean(each.isUpdated());
+                out.writeBoolean(each.isUniqueKey());
+                if (!writeValue(out, each.getOldValue()) || !writeValue(out, each.getValue())) {
+                    return Optional.empty();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return Optional.of(result.toByteArray());
+    }
+    
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (null == value) {
+            out.writeInt(-1);
+            return;
+        }
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static void writeBytes(final DataOutputStream out, final byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+    
+    private static boolean writeValue(final DataOutputStream out, final Object value) throws IOException {
+        if (null == value) {
+            out.writeByte(NULL);
+            return true;
+        }
+        Class<?> valueClass = value.getClass();
+        if (Boolean.class == valueClass) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (Byte.class == valueClass) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (Short.class == valueClass) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (Integer.class == valueClass) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (Long.class == valueClass) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (Float.class == valueClass) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (Double.class == valueClass) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (BigDecimal.class == valueClass) {
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(((BigDecimal) value).scale());
+            writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (BigInteger.class == valueClass) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (String.class == valueClass) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (byte[].class == valueClass) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (Date.class == valueClass) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (Time.class == valueClass) {
+            out.writeByte(TIME);
+            out.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == valueClass) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(((Timestamp) value).getTime());
+            out.writeInt(((Timestamp) value).getNanos());
+        } else {
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Decode data record.
+     *
+     * @param buffer buffer positioned at encoded data record
+     * @param position ingest position of data record
+     * @return decoded data record
+     */
+    public static DataRecord decode(final ByteBuffer buffer, final IngestPosition<?> position) {
+        String type = readString(buffer);
+        String tableName = readString(buffer);
+        long commitTime = buffer.getLong();
+        int columnCount = buffer.getInt();
+        DataRecord result = new DataRecord(position, columnCount);
+        result.setType(type);
+        result.setTableName(tableName);
+        result.setCommitTime(commitTime);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readString(buffer);
+            boolean updated = 0 != buffer.get();
+            boolean uniqueKey = 0 != buffer.get();
+            Object oldValue = readValue(buffer);
+            result.addColumn(new Column(name, oldValue, readValue(buffer), updated, uniqueKey));
+        }
+        return result;
+    }
+    
+    private static String readString(final ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return result;
+    }
+    
+    private static byte[] readBytes(final ByteBuffer buffer) {
+        byte[] result = new byte[buffer.getInt()];
+        buffer.get(result);
+        return result;
+    }
+    
+    private static Object readValue(final ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return 0 != buffer.get();
+            case BYTE:
+                return buffer.get();
+            case SHORT:
+                return buffer.getShort();
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case FLOAT:
+                return buffer.getFloat();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BIG_DECIMAL:
+                int scale = buffer.getInt();
+                return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(buffer));
+            case STRING:
+                return readString(buffer);
+            case BYTES:
+                return readBytes(buffer);
+            case DATE:
+                return new Date(buffer.getLong());
+            case TIME:
+                return new Time(buffer.getLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(buffer.getLong());
+                timestamp.setNanos(buffer.getInt());
+                return timestamp;
+            default:
+                throw new IllegalStateException(String.format("Unknown value tag `%d`.", tag));
+        }
+    }
+}
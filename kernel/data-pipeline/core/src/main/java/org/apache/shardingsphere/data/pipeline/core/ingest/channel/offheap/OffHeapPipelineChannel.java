@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.core.util.DirectBufferUtil;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Off-heap pipeline channel.
+ *
+ * <p>
+ * Data records are encoded into a direct ring buffer, and the capacity is bounded by bytes instead of record count.
+ * The direct buffer is allocated on first push and doubled on demand up to the capacity, and it is freed when the channel is closed.
+ * Positions of data records, other records and data records which can not be encoded are kept on heap in publishing order.
+ * </p>
+ */
+public final class OffHeapPipelineChannel implements PipelineChannel {
+    
+    private static final int ENTRY_HEADER_LENGTH = 4;
+    
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    
+    private final int capacity;
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<Object> heapEntries = new ArrayDeque<>();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private final Condition enoughRecords = lock.newCondition();
+    
+    private long readOffset;
+    
+    private long writeOffset;
+    
+    private int expectedRecordCount = Integer.MAX_VALUE;
+    
+    private ByteBuffer buffer;
+    
+    private boolean closed;
+    
+    public OffHeapPipelineChannel(final int capacity, final AckCallback ackCallback) {
+        this.capacity = capacity;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        pushRecords(Collections.singletonList(dataRecord));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        List<byte[]> encodedRecords = new ArrayList<>(records.size());
+        for (Record each : records) {
+            encodedRecords.add(encode(each));
+        }
+        lock.lock();
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                publish(records.get(i), encodedRecords.get(i));
+            }
+            if (heapEntries.size() >= expectedRecordCount) {
+                enoughRecords.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private byte[] encode(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return null;
+        }
+        Optional<byte[]> result = DataRecordCodec.encode((DataRecord) record);
+        return result.isPresent() && ENTRY_HEADER_LENGTH + result.get().length <= capacity ? result.get() : null;
+    }
+    
+    private void publish(final Record record, final byte[] encodedRecord) {
+        int entryLength = ENTRY_HEADER_LENGTH + (null == encodedRecord ? 0 : encodedRecord.length);
+        while (!closed && capacity - (writeOffset - readOffset) < entryLength) {
+            enoughRecords.signalAll();
+            awaitNotFull();
+        }
+        if (closed) {
+            return;
+        }
+        ensureBufferCapacity((int) (writeOffset - readOffset) + entryLength);
+        if (null == encodedRecord) {
+            write(intToBytes(-1));
+            heapEntries.offer(record);
+        } else {
+            write(intToBytes(encodedRecord.length));
+            write(encodedRecord);
+            heapEntries.offer(record.getPosition());
+        }
+    }
+    
+    private void awaitNotFull() {
+        try {
+            notFull.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IngestException("Push record into off-heap pipeline channel is interrupted.", ex);
+        }
+    }
+    
+    private void ensureBufferCapacity(final int requiredLength) {
+        int bufferCapacity = null == buffer ? 0 : buffer.capacity();
+        if (requiredLength <= bufferCapacity) {
+            return;
+        }
+        ByteBuffer newBuffer = ByteBuffer.allocateDirect((int) Math.min(capacity, Math.max(requiredLength, Math.max(INITIAL_BUFFER_SIZE, 2L * bufferCapacity))));
+        int usedLength = (int) (writeOffset - readOffset);
+        if (usedLength > 0) {
+            int index = (int) (readOffset % bufferCapacity);
+            int firstLength = Math.min(usedLength, bufferCapacity - index);
+            ByteBuffer duplicated = buffer.duplicate();
+            duplicated.limit(index + firstLength);
+            duplicated.position(index);
+            newBuffer.put(duplicated);
+            if (firstLength < usedLength) {
+                duplicated.clear();
+                duplicated.limit(usedLength - firstLength);
+                newBuffer.put(duplicated);
+            }
+        }
+        DirectBufferUtil.release(buffer);
+        buffer = newBuffer;
+        readOffset = 0L;
+        writeOffset = usedLength;
+    }
+    
+    private void write(final byte[] bytes) {
+        int bufferCapacity = buffer.capacity();
+        int index = (int) (writeOffset % bufferCapacity);
+        int firstLength = Math.min(bytes.length, bufferCapacity - index);
+        ByteBuffer duplicated = buffer.duplicate();
+        duplicated.position(index);
+        duplicated.put(bytes, 0, firstLength);
+        if (firstLength < bytes.length) {
+            duplicated.position(0);
+            duplicated.put(bytes, firstLength, bytes.length - firstLength);
+        }
+        writeOffset += bytes.length;
+    }
+    
+    private void read(final byte[] bytes) {
+        int bufferCapacity = buffer.capacity();
+        int index = (int) (readOffset % bufferCapacity);
+        int firstLength = Math.min(bytes.length, bufferCapacity - index);
+        ByteBuffer duplicated = buffer.duplicate();
+        duplicated.position(index);
+        duplicated.get(bytes, 0, firstLength);
+        if (firstLength < bytes.length) {
+            duplicated.position(0);
+            duplicated.get(bytes, firstLength, bytes.length - firstLength);
+        }
+        readOffset += bytes.length;
+    }
+    
+    private byte[] intToBytes(final int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<Object> entries = new ArrayList<>(batchSize);
+        List<byte[]> encodedRecords = new ArrayList<>(batchSize);
+        lock.lock();
+        try {
+            awaitRecords(batchSize, timeoutSeconds);
+            byte[] header = new byte[ENTRY_HEADER_LENGTH];
+            while (entries.size() < batchSize && !heapEntries.isEmpty()) {
+                read(header);
+                int length = ByteBuffer.wrap(header).getInt();
+                byte[] encodedRecord = length < 0 ? null : new byte[length];
+                if (null != encodedRecord) {
+                    read(encodedRecord);
+                }
+                entries.add(heapEntries.poll());
+                encodedRecords.add(encodedRecord);
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        List<Record> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            byte[] encodedRecord = encodedRecords.get(i);
+            result.add(null == encodedRecord ? (Record) entries.get(i) : DataRecordCodec.decode(ByteBuffer.wrap(encodedRecord), (IngestPosition<?>) entries.get(i)));
+        }
+        return result;
+    }
+    
+    private void awaitRecords(final int batchSize, final int timeoutSeconds) {
+        long remainingNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        expectedRecordCount = batchSize;
+        try {
+            while (heapEntries.size() < batchSize && remainingNanos > 0L) {
+                remainingNanos = enoughRecords.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } finally {
+            expectedRecordCount = Integer.MAX_VALUE;
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            heapEntries.clear();
+            readOffset = 0L;
+            writeOffset = 0L;
+            DirectBufferUtil.release(buffer);
+            buffer = null;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
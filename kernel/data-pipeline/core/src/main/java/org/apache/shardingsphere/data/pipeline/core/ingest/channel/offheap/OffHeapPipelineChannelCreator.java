@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.util.Properties;
+
+/**
+ * Off-heap implementation of pipeline channel creator.
+ */
+public final class OffHeapPipelineChannelCreator implements PipelineChannelCreator {
+    
+    public static final String TYPE = "OFF_HEAP";
+    
+    public static final int BUFFER_SIZE_DEFAULT_VALUE = 64 * 1024 * 1024;
+    
+    public static final String BUFFER_SIZE_KEY = "buffer-size";
+    
+    public static final String BLOCK_QUEUE_SIZE_KEY = "block-queue-size";
+    
+    private static final int ESTIMATED_RECORD_LENGTH = 1024;
+    
+    @Getter
+    private Properties props;
+    
+    private int bufferSize = BUFFER_SIZE_DEFAULT_VALUE;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        String bufferSizeValue = props.getProperty(BUFFER_SIZE_KEY);
+        String blockQueueSizeValue = props.getProperty(BLOCK_QUEUE_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(bufferSizeValue)) {
+            bufferSize = Integer.parseInt(bufferSizeValue);
+        } else if (!Strings.isNullOrEmpty(blockQueueSizeValue)) {
+            bufferSize = (int) Math.min(Integer.MAX_VALUE, (long) Integer.parseInt(blockQueueSizeValue) * ESTIMATED_RECORD_LENGTH);
+        }
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        return 1 == outputConcurrency ? new OffHeapPipelineChannel(bufferSize, ackCallback)
+                : new MultiplexMemoryPipelineChannel(outputConcurrency, callback -> new OffHeapPipelineChannel(bufferSize / outputConcurrency, callback), ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap.DataRecordCodec;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Spill pipeline channel.
+ *
+ * <p>
+ * Records are kept in memory until memory capacity is reached, then data records are appended to segment files
+ * in spill directory instead of blocking the dumper, and only their positions are kept on heap in publishing order.
+ * The dumper is blocked only when segment files reach the max spill size, until sealed segment files are released by acknowledgement.
+ * Segment file is truncated or deleted after all of its records are acknowledged, positions are passed to ack callback only after records are imported.
+ * </p>
+ */
+public final class SpillPipelineChannel implements PipelineChannel {
+    
+    private final int memoryCapacity;
+    
+    private final int segmentSize;
+    
+    private final int maxSegmentCount;
+    
+    private final File spillDirectory;
+    
+    private final AckCallback ackCallback;
+    
+    private final Deque<Object> entries = new ArrayDeque<>();
+    
+    private final List<SpillSegment> segments = new LinkedList<>();
+    
+    private final Map<Record, SpillSegment> fetchedSpilledRecords = new IdentityHashMap<>();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition enoughRecords = lock.newCondition();
+    
+    private final Condition segmentReleased = lock.newCondition();
+    
+    private int memoryRecordCount;
+    
+    private SpillSegment activeSegment;
+    
+    private int segmentSequence;
+    
+    private int expectedRecordCount = Integer.MAX_VALUE;
+    
+    private boolean closed;
+    
+    public SpillPipelineChannel(final int memoryCapacity, final int segmentSize, final long maxSpillSize, final File spillDirectory, final AckCallback ackCallback) {
+        this.memoryCapacity = memoryCapacity;
+        this.segmentSize = segmentSize;
+        maxSegmentCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, maxSpillSize / segmentSize));
+        this.spillDirectory = spillDirectory;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        pushRecords(Collections.singletonList(dataRecord));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) {
+        lock.lock();
+        try {
+            for (Record each : records) {
+                publish(each);
+            }
+            if (entries.size() >= expectedRecordCount) {
+                enoughRecords.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void publish(final Record record) {
+        if (closed) {
+            return;
+        }
+        if (memoryRecordCount < memoryCapacity) {
+            entries.offer(record);
+            memoryRecordCount++;
+            return;
+        }
+        if (record instanceof PlaceholderRecord && entries.peekLast() instanceof PlaceholderRecord) {
+            entries.pollLast();
+            entries.offer(record);
+            return;
+        }
+        Optional<byte[]> encodedRecord = record instanceof DataRecord ? DataRecordCodec.encode((DataRecord) record) : Optional.empty();
+        if (encodedRecord.isPresent() && encodedRecord.get().length <= segmentSize) {
+            awaitSegmentAvailable(encodedRecord.get().length);
+            if (!closed) {
+                entries.offer(spill(encodedRecord.get(), record.getPosition()));
+            }
+        } else {
+            entries.offer(record);
+            memoryRecordCount++;
+        }
+    }
+    
+    private void awaitSegmentAvailable(final int length) {
+        while (!closed && (null == activeSegment || activeSegment.getRemaining() < length) && segments.size() >= maxSegmentCount) {
+            enoughRecords.signalAll();
+            try {
+                segmentReleased.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IngestException("Push record into spill pipeline channel is interrupted.", ex);
+            }
+        }
+    }
+    
+    private SpilledRecord spill(final byte[] encodedRecord, final IngestPosition<?> position) {
+        if (null == activeSegment || activeSegment.getRemaining() < encodedRecord.length) {
+            if (null != activeSegment) {
+                activeSegment.setSealed(true);
+            }
+            activeSegment = createSegment();
+        }
+        return new SpilledRecord(activeSegment, activeSegment.append(encodedRecord), encodedRecord.length, position);
+    }
+    
+    private SpillSegment createSegment() {
+        if (!spillDirectory.isDirectory() && !spillDirectory.mkdirs()) {
+            throw new IngestException("Create spill directory failed: " + spillDirectory);
+        }
+        SpillSegment result = new SpillSegment(new File(spillDirectory, String.format("segment-%010d", segmentSequence++)), segmentSize);
+        segments.add(result);
+        return result;
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        List<Object> fetchedEntries = new ArrayList<>(batchSize);
+        lock.lock();
+        try {
+            awaitRecords(batchSize, timeoutSeconds);
+            while (fetchedEntries.size() < batchSize && !entries.isEmpty()) {
+                Object entry = entries.poll();
+                if (!(entry instanceof SpilledRecord)) {
+                    memoryRecordCount--;
+                }
+                fetchedEntries.add(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        List<Record> result = new ArrayList<>(fetchedEntries.size());
+        Map<Record, SpillSegment> spilledRecords = new IdentityHashMap<>();
+        for (Object each : fetchedEntries) {
+            if (each instanceof SpilledRecord) {
+                SpilledRecord spilledRecord = (SpilledRecord) each;
+                DataRecord dataRecord = DataRecordCodec.decode(spilledRecord.segment.read(spilledRecord.offset, spilledRecord.length), spilledRecord.position);
+                spilledRecords.put(dataRecord, spilledRecord.segment);
+                result.add(dataRecord);
+            } else {
+                result.add((Record) each);
+            }
+        }
+        if (!spilledRecords.isEmpty()) {
+            lock.lock();
+            try {
+                fetchedSpilledRecords.putAll(spilledRecords);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return result;
+    }
+    
+    private void awaitRecords(final int batchSize, final int timeoutSeconds) {
+        long remainingNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        expectedRecordCount = batchSize;
+        try {
+            while (entries.size() < batchSize && remainingNanos > 0L) {
+                remainingNanos = enoughRecords.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } finally {
+            expectedRecordCount = Integer.MAX_VALUE;
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        lock.lock();
+        try {
+            for (Record each : records) {
+                SpillSegment segment = fetchedSpilledRecords.remove(each);
+                if (null != segment && segment.ack()) {
+                    if (segment.isSealed()) {
+                        segment.delete();
+                        segments.remove(segment);
+                    }
+                    segmentReleased.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            entries.clear();
+            memoryRecordCount = 0;
+            fetchedSpilledRecords.clear();
+            for (SpillSegment each : segments) {
+                each.delete();
+            }
+            segments.clear();
+            activeSegment = null;
+            spillDirectory.delete();
+            segmentReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledRecord {
+        
+        private final SpillSegment segment;
+        
+        private final int offset;
+        
+        private final int length;
+        
+        private final IngestPosition<?> position;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.io.File;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Spill implementation of pipeline channel creator.
+ */
+public final class SpillPipelineChannelCreator implements PipelineChannelCreator {
+    
+    public static final String TYPE = "SPILL";
+    
+    public static final int BLOCK_QUEUE_SIZE_DEFAULT_VALUE = 10000;
+    
+    public static final String BLOCK_QUEUE_SIZE_KEY = "block-queue-size";
+    
+    public static final int SEGMENT_SIZE_DEFAULT_VALUE = 64 * 1024 * 1024;
+    
+    public static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    public static final long MAX_SPILL_SIZE_DEFAULT_VALUE = 1024L * 1024 * 1024;
+    
+    public static final String MAX_SPILL_SIZE_KEY = "max-spill-size";
+    
+    public static final String SPILL_DIRECTORY_KEY = "spill-directory";
+    
+    @Getter
+    private Properties props;
+    
+    private int blockQueueSize = BLOCK_QUEUE_SIZE_DEFAULT_VALUE;
+    
+    private int segmentSize = SEGMENT_SIZE_DEFAULT_VALUE;
+    
+    private long maxSpillSize = MAX_SPILL_SIZE_DEFAULT_VALUE;
+    
+    private File spillDirectory = new File(System.getProperty("java.io.tmpdir"), "shardingsphere-pipeline-spill");
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        String blockQueueSizeValue = props.getProperty(BLOCK_QUEUE_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(blockQueueSizeValue)) {
+            blockQueueSize = Integer.parseInt(blockQueueSizeValue);
+        }
+        String segmentSizeValue = props.getProperty(SEGMENT_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(segmentSizeValue)) {
+            segmentSize = Integer.parseInt(segmentSizeValue);
+        }
+        String maxSpillSizeValue = props.getProperty(MAX_SPILL_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(maxSpillSizeValue)) {
+            maxSpillSize = Long.parseLong(maxSpillSizeValue);
+        }
+        String spillDirectoryValue = props.getProperty(SPILL_DIRECTORY_KEY);
+        if (!Strings.isNullOrEmpty(spillDirectoryValue)) {
+            spillDirectory = new File(spillDirectoryValue);
+        }
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        return 1 == outputConcurrency ? createSpillPipelineChannel(outputConcurrency, ackCallback)
+                : new MultiplexMemoryPipelineChannel(outputConcurrency, callback -> createSpillPipelineChannel(outputConcurrency, callback), ackCallback);
+    }
+    
+    private PipelineChannel createSpillPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        return new SpillPipelineChannel(Math.max(1, blockQueueSize / outputConcurrency), segmentSize, maxSpillSize / outputConcurrency,
+                new File(spillDirectory, UUID.randomUUID().toString()), ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only segment file of spill pipeline channel, which is written and read by positional file channel IO.
+ */
+@Slf4j
+final class SpillSegment {
+    
+    private final File file;
+    
+    private final int size;
+    
+    private final FileChannel channel;
+    
+    private int writePosition;
+    
+    @Getter
+    private int unackedCount;
+    
+    @Getter
+    @Setter
+    private boolean sealed;
+    
+    SpillSegment(final File file, final int size) {
+        this.file = file;
+        this.size = size;
+        try {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (final IOException ex) {
+            throw new IngestException("Create spill segment file failed: " + file, ex);
+        }
+    }
+    
+    /**
+     * Get remaining bytes.
+     *
+     * @return remaining bytes
+     */
+    int getRemaining() {
+        return size - writePosition;
+    }
+    
+    /**
+     * Append bytes.
+     *
+     * @param bytes bytes to be appended
+     * @return offset of appended bytes
+     */
+    int append(final byte[] bytes) {
+        int result = writePosition;
+        ByteBuffer source = ByteBuffer.wrap(bytes);
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source, result + source.position());
+            }
+        } catch (final IOException ex) {
+            throw new IngestException("Write spill segment file failed: " + file, ex);
+        }
+        writePosition += bytes.length;
+        unackedCount++;
+        return result;
+    }
+    
+    /**
+     * Read bytes.
+     *
+     * @param offset offset
+     * @param length length
+     * @return heap buffer of bytes read
+     */
+    ByteBuffer read(final int offset, final int length) {
+        ByteBuffer result = ByteBuffer.allocate(length);
+        try {
+            while (result.hasRemaining()) {
+                if (channel.read(result, offset + result.position()) < 0) {
+                    throw new IngestException("Read spill segment file failed, unexpected end of file: " + file);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new IngestException("Read spill segment file failed: " + file, ex);
+        }
+        result.flip();
+        return result;
+    }
+    
+    /**
+     * Acknowledge one record, and truncate segment if all records appended are acknowledged.
+     *
+     * @return whether all records appended are acknowledged
+     */
+    boolean ack() {
+        unackedCount--;
+        if (0 == unackedCount) {
+            writePosition = 0;
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Close and delete segment file.
+     */
+    void delete() {
+        try {
+            channel.close();
+        } catch (final IOException ex) {
+            log.warn("Close spill segment file failed: {}", file, ex);
+        }
+        if (!file.delete()) {
+            log.warn("Delete spill segment file failed: {}", file);
+        }
+    }
+}
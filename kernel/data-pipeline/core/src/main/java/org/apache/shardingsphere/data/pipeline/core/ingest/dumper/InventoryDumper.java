@@ -62,6 +62,8 @@ import java.util.Optional;
 @Slf4j
 public final class InventoryDumper extends AbstractLifecycleExecutor implements Dumper {
     
+    private static final String UNBOUNDED_STRING_END_VALUE = "~";
+    
     @Getter(AccessLevel.PROTECTED)
     private final InventoryDumperConfiguration dumperConfig;
     
@@ -119,7 +121,7 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
     
     private String buildInventoryDumpSQL(final boolean firstQuery) {
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
-        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
+        if (isUniqueKeyRangeBounded()) {
             return sqlBuilder.buildDivisibleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), dumperConfig.getUniqueKeyDataType(), firstQuery);
         }
         if (PipelineJdbcUtils.isStringColumn(dumperConfig.getUniqueKeyDataType())) {
@@ -128,6 +130,15 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         throw new UnsupportedPipelineJobUniqueKeyDataTypeException(dumperConfig.getUniqueKeyDataType());
     }
     
+    private boolean isUniqueKeyRangeBounded() {
+        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
+            return true;
+        }
+        IngestPosition<?> position = dumperConfig.getPosition();
+        return PipelineJdbcUtils.isStringColumn(dumperConfig.getUniqueKeyDataType())
+                && position instanceof PrimaryKeyPosition && !UNBOUNDED_STRING_END_VALUE.equals(((PrimaryKeyPosition<?>) position).getEndValue());
+    }
+    
     private Optional<Object> dump(final PipelineTableMetaData tableMetaData, final Connection connection, final String sql, final Object beginUniqueKeyValue, final int round) throws SQLException {
         if (null != dumperConfig.getRateLimitAlgorithm()) {
             dumperConfig.getRateLimitAlgorithm().intercept(JobOperationType.SELECT, 1);
@@ -138,11 +149,20 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
             setParameters(preparedStatement, batchSize, beginUniqueKeyValue);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                String[] columnNames = new String[columnCount];
+                boolean[] uniqueKeyColumns = new boolean[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    columnNames[i] = resultSetMetaData.getColumnName(i + 1);
+                    uniqueKeyColumns[i] = tableMetaData.getColumnMetaData(i + 1).isUniqueKey();
+                }
+                int uniqueKeyColumnIndex = tableMetaData.getColumnMetaData(dumperConfig.getUniqueKey()).getOrdinalPosition() - 1;
                 int rowCount = 0;
                 Object maxUniqueKeyValue = null;
                 while (resultSet.next()) {
-                    channel.pushRecord(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
-                    maxUniqueKeyValue = columnValueReader.readValue(resultSet, resultSetMetaData, tableMetaData.getColumnMetaData(dumperConfig.getUniqueKey()).getOrdinalPosition());
+                    DataRecord dataRecord = loadDataRecord(resultSet, resultSetMetaData, columnNames, uniqueKeyColumns, uniqueKeyColumnIndex);
+                    channel.pushRecord(dataRecord);
+                    maxUniqueKeyValue = dataRecord.getColumn(uniqueKeyColumnIndex).getValue();
                     rowCount++;
                     if (!isRunning()) {
                         log.info("Broke because of inventory dump is not running.");
@@ -160,7 +180,7 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
     
     private void setParameters(final PreparedStatement preparedStatement, final int batchSize, final Object beginUniqueKeyValue) throws SQLException {
         preparedStatement.setFetchSize(batchSize);
-        if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
+        if (isUniqueKeyRangeBounded()) {
             preparedStatement.setObject(1, beginUniqueKeyValue);
             preparedStatement.setObject(2, ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue());
             preparedStatement.setInt(3, batchSize);
@@ -174,21 +194,23 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         throw new UnsupportedPipelineJobUniqueKeyDataTypeException(dumperConfig.getUniqueKeyDataType());
     }
     
-    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
-        int columnCount = resultSetMetaData.getColumnCount();
-        DataRecord result = new DataRecord(newPosition(resultSet), columnCount);
+    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final String[] columnNames, final boolean[] uniqueKeyColumns,
+                                      final int uniqueKeyColumnIndex) throws SQLException {
+        Object uniqueKeyValue = columnValueReader.readValue(resultSet, resultSetMetaData, uniqueKeyColumnIndex + 1);
+        DataRecord result = new DataRecord(newPosition(uniqueKeyValue), columnNames.length);
         result.setType(IngestDataChangeType.INSERT);
         result.setTableName(dumperConfig.getLogicTableName());
-        for (int i = 1; i <= columnCount; i++) {
-            result.addColumn(new Column(resultSetMetaData.getColumnName(i), columnValueReader.readValue(resultSet, resultSetMetaData, i), true, tableMetaData.getColumnMetaData(i).isUniqueKey()));
+        for (int i = 0; i < columnNames.length; i++) {
+            Object value = i == uniqueKeyColumnIndex ? uniqueKeyValue : columnValueReader.readValue(resultSet, resultSetMetaData, i + 1);
+            result.addColumn(new Column(columnNames[i], value, true, uniqueKeyColumns[i]));
         }
         return result;
     }
     
-    private IngestPosition<?> newPosition(final ResultSet resultSet) throws SQLException {
+    private IngestPosition<?> newPosition(final Object uniqueKeyValue) {
         return null == dumperConfig.getUniqueKey()
                 ? new PlaceholderPosition()
-                : PrimaryKeyPositionFactory.newInstance(resultSet.getObject(dumperConfig.getUniqueKey()), ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue());
+                : PrimaryKeyPositionFactory.newInstance(uniqueKeyValue, ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue());
     }
     
     @Override
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDelay;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDirtyRange;
+
+import java.util.List;
 
 /**
  * YAML job item incremental tasks progress.
@@ -31,4 +34,6 @@ public final class YamlJobItemIncrementalTasksProgress {
     private String position;
     
     private IncrementalTaskDelay delay;
+    
+    private List<IncrementalTaskDirtyRange> dirtyRanges;
 }
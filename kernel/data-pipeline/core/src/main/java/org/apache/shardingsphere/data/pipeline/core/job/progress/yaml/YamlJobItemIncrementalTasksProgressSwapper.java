@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobItemIncrementalTasksProgress;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDirtyRange;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskProgress;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializerFactory;
 
+import java.util.List;
+
 /**
  * YAML job item incremental tasks progress swapper.
  */
@@ -43,6 +46,10 @@ public final class YamlJobItemIncrementalTasksProgressSwapper {
         YamlJobItemIncrementalTasksProgress result = new YamlJobItemIncrementalTasksProgress();
         result.setPosition(progress.getIncrementalTaskProgress().getPosition().toString());
         result.setDelay(progress.getIncrementalTaskProgress().getIncrementalTaskDelay());
+        List<IncrementalTaskDirtyRange> dirtyRanges = progress.getIncrementalTaskProgress().getDirtyRanges().getRanges();
+        if (!dirtyRanges.isEmpty()) {
+            result.setDirtyRanges(dirtyRanges);
+        }
         return result;
     }
     
@@ -61,6 +68,9 @@ public final class YamlJobItemIncrementalTasksProgressSwapper {
         // TODO databaseType
         taskProgress.setPosition(PositionInitializerFactory.getInstance(databaseType).init(yamlProgress.getPosition()));
         taskProgress.setIncrementalTaskDelay(yamlProgress.getDelay());
+        if (null != yamlProgress.getDirtyRanges()) {
+            taskProgress.getDirtyRanges().addRanges(yamlProgress.getDirtyRanges());
+        }
         return new JobItemIncrementalTasksProgress(taskProgress);
     }
 }
@@ -138,6 +138,17 @@ public final class PipelineMetaDataNode {
         return String.join("/", getCheckJobIdsRootPath(jobId), checkJobId);
     }
     
+    /**
+     * Get check Merkle tree path.
+     *
+     * @param jobId job id
+     * @param treeName tree name
+     * @return check Merkle tree path
+     */
+    public static String getCheckMerkleTreePath(final String jobId, final String treeName) {
+        return String.join("/", getJobRootPath(jobId), "check", "merkle_tree", treeName);
+    }
+    
     /**
      * Get check job ids root path.
      *
@@ -196,22 +196,47 @@ public final class InventoryTaskSplitter {
     
     private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                              final InventoryDumperConfiguration dumperConfig) {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
         PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
-        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
-        String actualTableName = dumperConfig.getActualTableName();
-        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType()).buildCountSQL(schemaName, actualTableName);
+        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType())
+                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                resultSet.next();
-                jobItemContext.updateInventoryRecordsCount(resultSet.getLong(1));
+            String beginValue = "!";
+            long recordsCount = 0;
+            while (null != beginValue) {
+                preparedStatement.setString(1, beginValue);
+                preparedStatement.setLong(2, shardingSize);
+                String endValue;
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next() || 0 == resultSet.getLong(2)) {
+                        break;
+                    }
+                    endValue = resultSet.getString(1);
+                    recordsCount += resultSet.getLong(2);
+                }
+                result.add(new StringPrimaryKeyPosition(beginValue, endValue));
+                beginValue = getNextStringUniqueKeyValue(preparedStatement, endValue);
             }
+            jobItemContext.updateInventoryRecordsCount(recordsCount);
         } catch (final SQLException ex) {
             throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
         }
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition("!", "~"));
+        // fix empty table missing inventory task
+        if (result.isEmpty()) {
+            result.add(new StringPrimaryKeyPosition("!", "~"));
+        }
         return result;
     }
+    
+    private String getNextStringUniqueKeyValue(final PreparedStatement preparedStatement, final String uniqueKeyValue) throws SQLException {
+        // String could not be increased, so the next value is the max of 2 values which are not less than current value
+        preparedStatement.setString(1, uniqueKeyValue);
+        preparedStatement.setLong(2, 2);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() && 2 == resultSet.getLong(2) ? resultSet.getString(1) : null;
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -81,23 +82,50 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return buildMultiRowInsertSQL(schemaName, dataRecord, 1);
+    }
+    
+    @Override
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns()));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        String valuesHolder = buildValuesHolder(dataRecord.getColumnCount());
+        StringBuilder result = new StringBuilder(sqlCacheMap.get(sqlCacheKey)).append(valuesHolder);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(',').append(valuesHolder);
+        }
+        buildInsertConflictSQL(dataRecord).ifPresent(result::append);
+        return result.toString();
     }
     
     private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
-            holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
-        holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", getQualifiedTableName(schemaName, tableName), columnsLiteral, holder);
+        return String.format("INSERT INTO %s(%s) VALUES", getQualifiedTableName(schemaName, tableName), columnsLiteral);
+    }
+    
+    private String buildValuesHolder(final int columnCount) {
+        StringBuilder result = new StringBuilder(columnCount * 2 + 1).append('(');
+        for (int i = 0; i < columnCount; i++) {
+            result.append("?,");
+        }
+        result.setCharAt(result.length() - 1, ')');
+        return result.toString();
+    }
+    
+    /**
+     * Build conflict SQL appended after values of insert SQL, such as ON DUPLICATE KEY UPDATE.
+     *
+     * @param dataRecord data record
+     * @return conflict SQL
+     */
+    protected Optional<String> buildInsertConflictSQL(final DataRecord dataRecord) {
+        return Optional.empty();
     }
     
     @Override
@@ -175,4 +203,10 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(*) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s),MAX(%s) FROM %s", quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName));
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChanne
 import org.apache.shardingsphere.data.pipeline.api.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.InventoryIncrementalJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
@@ -42,6 +43,7 @@ import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.IncrementalDump
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -86,7 +88,10 @@ public final class IncrementalTask implements PipelineTask, AutoCloseable {
         incrementalTaskProgress.setPosition(position);
         if (null != jobItemProgress && null != jobItemProgress.getIncremental()) {
             Optional.ofNullable(jobItemProgress.getIncremental().getIncrementalTaskProgress())
-                    .ifPresent(optional -> incrementalTaskProgress.setIncrementalTaskDelay(jobItemProgress.getIncremental().getIncrementalTaskProgress().getIncrementalTaskDelay()));
+                    .ifPresent(optional -> {
+                        incrementalTaskProgress.setIncrementalTaskDelay(optional.getIncrementalTaskDelay());
+                        incrementalTaskProgress.setDirtyRanges(optional.getDirtyRanges());
+                    });
         }
         return incrementalTaskProgress;
     }
@@ -103,6 +108,7 @@ public final class IncrementalTask implements PipelineTask, AutoCloseable {
     
     private PipelineChannel createChannel(final int concurrency, final PipelineChannelCreator pipelineChannelCreator, final IncrementalTaskProgress progress) {
         return pipelineChannelCreator.createPipelineChannel(concurrency, records -> {
+            progress.getDirtyRanges().record(getUniqueKeyValues(records));
             Record lastHandledRecord = records.get(records.size() - 1);
             if (!(lastHandledRecord.getPosition() instanceof PlaceholderPosition)) {
                 progress.setPosition(lastHandledRecord.getPosition());
@@ -112,6 +118,17 @@ public final class IncrementalTask implements PipelineTask, AutoCloseable {
         });
     }
     
+    private Collection<Object> getUniqueKeyValues(final List<Record> records) {
+        Collection<Object> result = new LinkedList<>();
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                result.addAll(((DataRecord) each).getUniqueKeyValue());
+                result.addAll(((DataRecord) each).getOldUniqueKeyValues());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public Collection<CompletableFuture<?>> start() {
         taskProgress.getIncrementalTaskDelay().setLatestActiveTimeMillis(System.currentTimeMillis());
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Direct buffer util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DirectBufferUtil {
+    
+    /**
+     * Release memory of direct buffer or unmap mapped byte buffer immediately instead of waiting for GC.
+     *
+     * <p>
+     * The buffer must not be accessed after released. If neither cleaner API of JDK 9+ nor JDK 8 is accessible, the memory is left to GC.
+     * </p>
+     *
+     * @param buffer buffer to be released
+     * @return released or not
+     */
+    public static boolean release(final ByteBuffer buffer) {
+        if (null == buffer || !buffer.isDirect()) {
+            return false;
+        }
+        try {
+            invokeCleaner(buffer);
+            return true;
+        } catch (final ReflectiveOperationException | SecurityException ex) {
+            return false;
+        }
+    }
+    
+    private static void invokeCleaner(final ByteBuffer buffer) throws ReflectiveOperationException {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Method invokeCleanerMethod;
+        try {
+            invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (final NoSuchMethodException ignored) {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (null != cleaner) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+            return;
+        }
+        Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        invokeCleanerMethod.invoke(unsafeField.get(null), buffer);
+    }
+}
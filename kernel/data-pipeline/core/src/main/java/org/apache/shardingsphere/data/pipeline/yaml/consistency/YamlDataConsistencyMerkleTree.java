@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.yaml.consistency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
+
+import java.util.Map;
+
+/**
+ * YAML data consistency Merkle tree.
+ */
+@Getter
+@Setter
+public final class YamlDataConsistencyMerkleTree implements YamlConfiguration {
+    
+    private long bucketOrigin;
+    
+    private long bucketWidth;
+    
+    /**
+     * Incremental task dirty ranges versions observed before calculation, key is sharding item.
+     */
+    private Map<Integer, Long> observedDirtyVersions;
+    
+    /**
+     * Leaves of Merkle tree, key is bucket index, value is records count and hash joined by colon.
+     */
+    private Map<Long, String> buckets;
+}
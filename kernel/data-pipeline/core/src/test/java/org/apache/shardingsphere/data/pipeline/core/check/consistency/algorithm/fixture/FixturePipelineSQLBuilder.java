@@ -43,6 +43,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        return "";
+    }
+    
     @Override
     public String buildUpdateSQL(final String schemaName, final DataRecord dataRecord, final Collection<Column> conditionColumns) {
         return "";
@@ -83,6 +88,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
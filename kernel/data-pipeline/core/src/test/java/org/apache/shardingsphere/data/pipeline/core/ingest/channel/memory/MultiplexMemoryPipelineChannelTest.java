@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class MultiplexMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertAckInPushedOrder() throws NoSuchFieldException, IllegalAccessException {
+        AckCallback ackCallback = mock(AckCallback.class);
+        MultiplexMemoryPipelineChannel channel = new MultiplexMemoryPipelineChannel(2, 100, ackCallback);
+        DataRecord first = createInsertDataRecord(1);
+        DataRecord second = createInsertDataRecord(findUniqueKeyOfAnotherChannel(first));
+        channel.pushRecord(first);
+        channel.pushRecord(second);
+        PipelineChannel[] channels = ReflectionUtil.getFieldValue(channel, "channels", PipelineChannel[].class);
+        List<Record> firstRecords = channels[getChannelIndex(first)].fetchRecords(10, 0);
+        List<Record> secondRecords = channels[getChannelIndex(second)].fetchRecords(10, 0);
+        assertThat(firstRecords, is(Arrays.<Record>asList(first)));
+        assertThat(secondRecords, is(Arrays.<Record>asList(second)));
+        channels[getChannelIndex(second)].ack(secondRecords);
+        verify(ackCallback, never()).onAck(any());
+        channels[getChannelIndex(first)].ack(firstRecords);
+        verify(ackCallback).onAck(Arrays.asList(first, second));
+    }
+    
+    @Test
+    public void assertDispatchUniqueKeyChangedRecordToInFlightChannel() throws NoSuchFieldException, IllegalAccessException {
+        MultiplexMemoryPipelineChannel channel = new MultiplexMemoryPipelineChannel(2, 100, mock(AckCallback.class));
+        DataRecord insertRecord = createInsertDataRecord(1);
+        DataRecord updateRecord = createDataRecord(IngestDataChangeType.UPDATE, new Column("order_id", 1, findUniqueKeyOfAnotherChannel(insertRecord), true, true));
+        channel.pushRecord(insertRecord);
+        channel.pushRecord(updateRecord);
+        PipelineChannel[] channels = ReflectionUtil.getFieldValue(channel, "channels", PipelineChannel[].class);
+        assertThat(channels[getChannelIndex(insertRecord)].fetchRecords(10, 0), is(Arrays.<Record>asList(insertRecord, updateRecord)));
+        assertTrue(channels[getChannelIndex(updateRecord)].fetchRecords(10, 0).isEmpty());
+    }
+    
+    private int findUniqueKeyOfAnotherChannel(final DataRecord dataRecord) {
+        int result = 2;
+        while (getChannelIndex(createInsertDataRecord(result)) == getChannelIndex(dataRecord)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int getChannelIndex(final DataRecord dataRecord) {
+        return Math.abs(dataRecord.hashCode() % 2);
+    }
+    
+    private DataRecord createInsertDataRecord(final int orderId) {
+        return createDataRecord(IngestDataChangeType.INSERT, new Column("order_id", orderId, true, true));
+    }
+    
+    private DataRecord createDataRecord(final String type, final Column uniqueKeyColumn) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 1);
+        result.setType(type);
+        result.setTableName("t_order");
+        result.addColumn(uniqueKeyColumn);
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class OffHeapPipelineChannelCreatorTest {
+    
+    @Test
+    public void assertInitWithBufferSize() throws Exception {
+        Properties props = new Properties();
+        props.setProperty("buffer-size", "1024");
+        PipelineChannelCreator creator = new OffHeapPipelineChannelCreator();
+        creator.init(props);
+        assertThat(ReflectionUtil.getFieldValue(creator, "bufferSize", Integer.class), is(1024));
+    }
+    
+    @Test
+    public void assertInitWithBlockQueueSize() throws Exception {
+        Properties props = new Properties();
+        props.setProperty("block-queue-size", "10000");
+        PipelineChannelCreator creator = new OffHeapPipelineChannelCreator();
+        creator.init(props);
+        assertThat(ReflectionUtil.getFieldValue(creator, "bufferSize", Integer.class), is(10000 * 1024));
+    }
+    
+    @Test
+    public void assertInitWithoutBufferSize() throws Exception {
+        PipelineChannelCreator creator = new OffHeapPipelineChannelCreator();
+        creator.init(new Properties());
+        assertThat(ReflectionUtil.getFieldValue(creator, "bufferSize", Integer.class), is(64 * 1024 * 1024));
+    }
+    
+    @Test
+    public void assertCreateOffHeapPipelineChannel() {
+        assertThat(createCreator().createPipelineChannel(1, mock(AckCallback.class)), instanceOf(OffHeapPipelineChannel.class));
+    }
+    
+    @Test
+    public void assertCreateMultiplexPipelineChannel() {
+        assertThat(createCreator().createPipelineChannel(2, mock(AckCallback.class)), instanceOf(MultiplexMemoryPipelineChannel.class));
+    }
+    
+    private PipelineChannelCreator createCreator() {
+        Properties props = new Properties();
+        props.setProperty("buffer-size", "1024");
+        PipelineChannelCreator result = new OffHeapPipelineChannelCreator();
+        result.init(props);
+        return result;
+    }
+}
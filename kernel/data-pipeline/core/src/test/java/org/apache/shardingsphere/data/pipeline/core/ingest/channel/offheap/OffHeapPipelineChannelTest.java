@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class OffHeapPipelineChannelTest {
+    
+    @Test
+    public void assertPushAndFetchDataRecord() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(1024, new EmptyAckCallback());
+        DataRecord dataRecord = createDataRecord(1, "init");
+        channel.pushRecord(dataRecord);
+        List<Record> actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), not(sameInstance(dataRecord)));
+        DataRecord actualRecord = (DataRecord) actual.get(0);
+        assertThat(actualRecord.getPosition(), sameInstance(dataRecord.getPosition()));
+        assertThat(actualRecord.getType(), is(IngestDataChangeType.UPDATE));
+        assertThat(actualRecord.getTableName(), is("t_order"));
+        assertThat(actualRecord.getCommitTime(), is(100L));
+        assertThat(actualRecord.getColumnCount(), is(4));
+        assertThat(actualRecord.getColumn(0).getOldValue(), is(0L));
+        assertThat(actualRecord.getColumn(0).getValue(), is(1L));
+        assertTrue(actualRecord.getColumn(0).isUniqueKey());
+        assertThat(actualRecord.getColumn(1).getValue(), is("init"));
+        assertTrue(actualRecord.getColumn(1).isUpdated());
+        assertThat(actualRecord.getColumn(2).getValue(), is(new BigDecimal("12.50")));
+        assertThat(actualRecord.getColumn(3).getValue(), is(dataRecord.getColumn(3).getValue()));
+        assertThat(actualRecord.getKey(), is(dataRecord.getKey()));
+        assertThat(actualRecord.getOldKey(), is(dataRecord.getOldKey()));
+    }
+    
+    @Test
+    public void assertPushAndFetchRecordsKeptOnHeap() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(1024, new EmptyAckCallback());
+        DataRecord unsupportedRecord = new DataRecord(new PlaceholderPosition(), 1);
+        unsupportedRecord.addColumn(new Column("id", UUID.randomUUID(), false, true));
+        FinishedRecord finishedRecord = new FinishedRecord(new PlaceholderPosition());
+        channel.pushRecords(Arrays.asList(createDataRecord(1, "init"), unsupportedRecord, finishedRecord));
+        List<Record> actual = channel.fetchRecords(3, 0);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(DataRecord.class));
+        assertThat(actual.get(1), sameInstance(unsupportedRecord));
+        assertThat(actual.get(2), sameInstance(finishedRecord));
+    }
+    
+    @Test
+    public void assertFetchRecordsInOrderWhenBufferWrapsAround() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(300, new EmptyAckCallback());
+        for (int i = 0; i < 20; i++) {
+            channel.pushRecord(createDataRecord(i, "status_" + i));
+            List<Record> actual = channel.fetchRecords(1, 0);
+            assertThat(actual.size(), is(1));
+            assertThat(((DataRecord) actual.get(0)).getColumn(0).getValue(), is((long) i));
+            assertThat(((DataRecord) actual.get(0)).getColumn(1).getValue(), is("status_" + i));
+        }
+    }
+    
+    @Test
+    public void assertFetchRecordsInOrderWhenBufferGrows() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(4 * 1024 * 1024, new EmptyAckCallback());
+        for (int i = 0; i < 100; i++) {
+            channel.pushRecord(createDataRecord(i, "status_" + i));
+        }
+        assertThat(channel.fetchRecords(50, 0).size(), is(50));
+        for (int i = 100; i < 5000; i++) {
+            channel.pushRecord(createDataRecord(i, "status_" + i));
+        }
+        List<Record> actual = channel.fetchRecords(5000, 0);
+        assertThat(actual.size(), is(4950));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(((DataRecord) actual.get(i)).getColumn(0).getValue(), is((long) i + 50));
+            assertThat(((DataRecord) actual.get(i)).getColumn(1).getValue(), is("status_" + (i + 50)));
+        }
+    }
+    
+    @Test
+    public void assertPushRecordBlockedUntilFetched() throws InterruptedException, ExecutionException, TimeoutException {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(200, new EmptyAckCallback());
+        channel.pushRecord(createDataRecord(1, "init"));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(createDataRecord(2, "init")));
+        Thread.sleep(200L);
+        assertFalse(future.isDone());
+        List<Record> actual = new ArrayList<>(channel.fetchRecords(1, 0));
+        future.get(10L, TimeUnit.SECONDS);
+        actual.addAll(channel.fetchRecords(1, 0));
+        assertThat(actual.size(), is(2));
+        assertThat(((DataRecord) actual.get(1)).getColumn(0).getValue(), is(2L));
+    }
+    
+    @Test
+    public void assertCloseReleasesBlockedPush() throws InterruptedException, ExecutionException, TimeoutException {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(200, new EmptyAckCallback());
+        channel.pushRecord(createDataRecord(1, "init"));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(createDataRecord(2, "init")));
+        Thread.sleep(200L);
+        assertFalse(future.isDone());
+        channel.close();
+        future.get(10L, TimeUnit.SECONDS);
+        assertTrue(channel.fetchRecords(10, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertFetchRecordsWithTimeout() {
+        OffHeapPipelineChannel channel = new OffHeapPipelineChannel(1024, new EmptyAckCallback());
+        channel.pushRecord(createDataRecord(1, "init"));
+        long startMillis = System.currentTimeMillis();
+        assertThat(channel.fetchRecords(10, 1).size(), is(1));
+        assertTrue(System.currentTimeMillis() - startMillis >= 900L);
+    }
+    
+    private DataRecord createDataRecord(final long id, final String status) {
+        DataRecord result = new DataRecord(new IntegerPrimaryKeyPosition(id, id), 4);
+        result.setType(IngestDataChangeType.UPDATE);
+        result.setTableName("t_order");
+        result.setCommitTime(100L);
+        result.addColumn(new Column("order_id", id - 1, id, true, true));
+        result.addColumn(new Column("status", status, true, false));
+        result.addColumn(new Column("amount", new BigDecimal("12.50"), false, false));
+        result.addColumn(new Column("create_time", new Timestamp(1600000000123L), false, false));
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SpillPipelineChannelCreatorTest {
+    
+    @Test
+    public void assertInitWithProperties() throws Exception {
+        Properties props = new Properties();
+        props.setProperty("block-queue-size", "200");
+        props.setProperty("segment-size", "1024");
+        props.setProperty("max-spill-size", "4096");
+        props.setProperty("spill-directory", "/tmp/spill");
+        PipelineChannelCreator creator = new SpillPipelineChannelCreator();
+        creator.init(props);
+        assertThat(ReflectionUtil.getFieldValue(creator, "blockQueueSize", Integer.class), is(200));
+        assertThat(ReflectionUtil.getFieldValue(creator, "segmentSize", Integer.class), is(1024));
+        assertThat(ReflectionUtil.getFieldValue(creator, "maxSpillSize", Long.class), is(4096L));
+        assertThat(ReflectionUtil.getFieldValue(creator, "spillDirectory", File.class), is(new File("/tmp/spill")));
+    }
+    
+    @Test
+    public void assertInitWithoutProperties() throws Exception {
+        PipelineChannelCreator creator = new SpillPipelineChannelCreator();
+        creator.init(new Properties());
+        assertThat(ReflectionUtil.getFieldValue(creator, "blockQueueSize", Integer.class), is(10000));
+        assertThat(ReflectionUtil.getFieldValue(creator, "segmentSize", Integer.class), is(64 * 1024 * 1024));
+        assertThat(ReflectionUtil.getFieldValue(creator, "maxSpillSize", Long.class), is(1024L * 1024 * 1024));
+        assertThat(ReflectionUtil.getFieldValue(creator, "spillDirectory", File.class), is(new File(System.getProperty("java.io.tmpdir"), "shardingsphere-pipeline-spill")));
+    }
+    
+    @Test
+    public void assertCreateSpillPipelineChannel() {
+        assertThat(createCreator().createPipelineChannel(1, mock(AckCallback.class)), instanceOf(SpillPipelineChannel.class));
+    }
+    
+    @Test
+    public void assertCreateMultiplexPipelineChannel() {
+        assertThat(createCreator().createPipelineChannel(2, mock(AckCallback.class)), instanceOf(MultiplexMemoryPipelineChannel.class));
+    }
+    
+    private PipelineChannelCreator createCreator() {
+        Properties props = new Properties();
+        props.setProperty("segment-size", "1024");
+        PipelineChannelCreator result = new SpillPipelineChannelCreator();
+        result.init(props);
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.spill;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.offheap.DataRecordCodec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class SpillPipelineChannelTest {
+    
+    private File spillDirectory;
+    
+    @Before
+    public void setUp() throws IOException {
+        spillDirectory = new File(Files.createTempDirectory("spill-test").toFile(), "channel");
+    }
+    
+    @After
+    public void tearDown() {
+        spillDirectory.delete();
+        spillDirectory.getParentFile().delete();
+    }
+    
+    @Test
+    public void assertPushRecordsWithinMemoryCapacity() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(10, 1024, 1024L * 1024, spillDirectory, new EmptyAckCallback());
+        DataRecord dataRecord = createDataRecord(1);
+        channel.pushRecord(dataRecord);
+        List<Record> actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0), sameInstance(dataRecord));
+        assertFalse(spillDirectory.exists());
+        channel.close();
+    }
+    
+    @Test
+    public void assertFetchSpilledRecordsInOrder() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(2, 1024, 1024L * 1024, spillDirectory, new EmptyAckCallback());
+        for (int i = 0; i < 10; i++) {
+            channel.pushRecord(createDataRecord(i));
+        }
+        assertTrue(new File(spillDirectory, "segment-0000000000").isFile());
+        List<Record> actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            DataRecord actualRecord = (DataRecord) actual.get(i);
+            assertThat(actualRecord.getColumn(0).getValue(), is((long) i));
+            assertThat(actualRecord.getColumn(1).getValue(), is("status_" + i));
+            assertThat(actualRecord.getTableName(), is("t_order"));
+            assertThat(((IntegerPrimaryKeyPosition) actualRecord.getPosition()).getBeginValue(), is((long) i));
+        }
+        channel.close();
+        assertFalse(spillDirectory.exists());
+    }
+    
+    @Test
+    public void assertDeleteSealedSegmentAfterAcknowledged() {
+        AckCallback ackCallback = mock(AckCallback.class);
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, DataRecordCodec.encode(createDataRecord(0)).get().length, 1024L * 1024, spillDirectory, ackCallback);
+        channel.pushRecords(Arrays.asList(createDataRecord(0), createDataRecord(1), createDataRecord(2), createDataRecord(3)));
+        File firstSegment = new File(spillDirectory, "segment-0000000000");
+        assertTrue(firstSegment.isFile());
+        assertTrue(new File(spillDirectory, "segment-0000000001").isFile());
+        List<Record> actual = channel.fetchRecords(2, 0);
+        channel.ack(actual);
+        verify(ackCallback).onAck(actual);
+        assertFalse(firstSegment.exists());
+        List<Record> remaining = channel.fetchRecords(10, 0);
+        assertThat(remaining.size(), is(2));
+        assertThat(((DataRecord) remaining.get(1)).getColumn(0).getValue(), is(3L));
+        channel.ack(remaining);
+        channel.close();
+    }
+    
+    @Test
+    public void assertPushRecordBlockedUntilSegmentReleased() throws InterruptedException, ExecutionException, TimeoutException {
+        int segmentSize = DataRecordCodec.encode(createDataRecord(0)).get().length;
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, segmentSize, segmentSize * 2L, spillDirectory, new EmptyAckCallback());
+        channel.pushRecords(Arrays.asList(createDataRecord(0), createDataRecord(1), createDataRecord(2)));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(createDataRecord(3)));
+        Thread.sleep(200L);
+        assertFalse(future.isDone());
+        channel.ack(channel.fetchRecords(2, 0));
+        future.get(10L, TimeUnit.SECONDS);
+        List<Record> actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(2));
+        assertThat(((DataRecord) actual.get(0)).getColumn(0).getValue(), is(2L));
+        assertThat(((DataRecord) actual.get(1)).getColumn(0).getValue(), is(3L));
+        channel.ack(actual);
+        channel.close();
+    }
+    
+    @Test
+    public void assertCoalescePlaceholderRecordsWhenMemoryFull() {
+        SpillPipelineChannel channel = new SpillPipelineChannel(1, 1024, 1024L * 1024, spillDirectory, new EmptyAckCallback());
+        channel.pushRecord(createDataRecord(0));
+        PlaceholderRecord lastPlaceholderRecord = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecords(Arrays.asList(new PlaceholderRecord(new PlaceholderPosition()), new PlaceholderRecord(new PlaceholderPosition()), lastPlaceholderRecord));
+        List<Record> actual = channel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(DataRecord.class));
+        assertThat(actual.get(1), sameInstance(lastPlaceholderRecord));
+        channel.close();
+    }
+    
+    private DataRecord createDataRecord(final long id) {
+        DataRecord result = new DataRecord(new IntegerPrimaryKeyPosition(id, id), 2);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", id, true, true));
+        result.addColumn(new Column("status", "status_" + id, true, false));
+        return result;
+    }
+}
@@ -31,11 +31,13 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
@@ -49,18 +51,38 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDa
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandlerFactory;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
+ *
+ * <p>
+ * Binlog events are received and decoded on netty event loop, converted to records on convert threads of the dumper,
+ * and pushed to channel by dumper thread in the same order as they are received.
+ * </p>
  */
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor implements IncrementalDumper {
     
+    private static final int MAX_CONVERTING_EVENT_COUNT = 256;
+    
     private final DumperConfiguration dumperConfig;
     
     private final BinlogPosition binlogPosition;
@@ -73,6 +95,13 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new ConcurrentHashMap<>();
+    
+    private final Queue<Future<List<Record>>> convertingEvents = new LinkedList<>();
+    
+    private final ExecutorService convertExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), ExecutorThreadFactoryBuilder.build("pipeline-mysql-binlog-convert-%d"));
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition<BinlogPosition> binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -94,57 +123,85 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         while (isRunning()) {
             AbstractBinlogEvent event = client.poll();
             if (null == event) {
+                pushConvertedRecords(0);
                 continue;
             }
-            handleEvent(event);
+            convertingEvents.add(convertEvent(event));
+            pushConvertedRecords(MAX_CONVERTING_EVENT_COUNT);
         }
+        pushConvertedRecords(0);
         channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
     }
     
-    private void handleEvent(final AbstractBinlogEvent event) {
-        if (event instanceof PlaceholderEvent || !((AbstractRowsEvent) event).getDatabaseName().equals(catalog) || !dumperConfig.containsTable(((AbstractRowsEvent) event).getTableName())) {
-            createPlaceholderRecord(event);
-            return;
+    private Future<List<Record>> convertEvent(final AbstractBinlogEvent event) {
+        return isFilteredEvent(event) ? CompletableFuture.completedFuture(handleEvent(event)) : convertExecutor.submit(() -> handleEvent(event));
+    }
+    
+    private void pushConvertedRecords(final int maxConvertingEventCount) {
+        while (!convertingEvents.isEmpty() && (convertingEvents.size() > maxConvertingEventCount || convertingEvents.peek().isDone())) {
+            for (Record each : getConvertedRecords(convertingEvents.poll())) {
+                channel.pushRecord(each);
+            }
+        }
+    }
+    
+    private List<Record> getConvertedRecords(final Future<List<Record>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            throw new IngestException("Convert binlog event failed.", ex);
+        }
+    }
+    
+    private boolean isFilteredEvent(final AbstractBinlogEvent event) {
+        return event instanceof PlaceholderEvent || !((AbstractRowsEvent) event).getDatabaseName().equals(catalog) || !dumperConfig.containsTable(((AbstractRowsEvent) event).getTableName());
+    }
+    
+    private List<Record> handleEvent(final AbstractBinlogEvent event) {
+        if (isFilteredEvent(event)) {
+            return Collections.singletonList(createPlaceholderRecord(event));
         }
         if (event instanceof WriteRowsEvent) {
             PipelineTableMetaData tableMetaData = getPipelineTableMetaData(((WriteRowsEvent) event).getTableName());
-            handleWriteRowsEvent((WriteRowsEvent) event, tableMetaData);
-            return;
+            return handleWriteRowsEvent((WriteRowsEvent) event, tableMetaData);
         }
         if (event instanceof UpdateRowsEvent) {
             PipelineTableMetaData tableMetaData = getPipelineTableMetaData(((UpdateRowsEvent) event).getTableName());
-            handleUpdateRowsEvent((UpdateRowsEvent) event, tableMetaData);
-            return;
+            return handleUpdateRowsEvent((UpdateRowsEvent) event, tableMetaData);
         }
         if (event instanceof DeleteRowsEvent) {
             PipelineTableMetaData tableMetaData = getPipelineTableMetaData(((DeleteRowsEvent) event).getTableName());
-            handleDeleteRowsEvent((DeleteRowsEvent) event, tableMetaData);
+            return handleDeleteRowsEvent((DeleteRowsEvent) event, tableMetaData);
         }
+        return Collections.emptyList();
     }
     
-    private void createPlaceholderRecord(final AbstractBinlogEvent event) {
-        PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
-        record.setCommitTime(event.getTimestamp() * 1000L);
-        channel.pushRecord(record);
+    private PlaceholderRecord createPlaceholderRecord(final AbstractBinlogEvent event) {
+        PlaceholderRecord result = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+        result.setCommitTime(event.getTimestamp() * 1000L);
+        return result;
     }
     
     private PipelineTableMetaData getPipelineTableMetaData(final String actualTableName) {
         return metaDataLoader.getTableMetaData(dumperConfig.getSchemaName(new ActualTableName(actualTableName)), actualTableName);
     }
     
-    private void handleWriteRowsEvent(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+    private List<Record> handleWriteRowsEvent(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> result = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.INSERT);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
             }
-            channel.pushRecord(record);
+            result.add(record);
         }
+        return result;
     }
     
-    private void handleUpdateRowsEvent(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
+    private List<Record> handleUpdateRowsEvent(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> result = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -159,24 +216,27 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
                         (columnMetaData.isPrimaryKey() && updated) ? handleValue(columnMetaData, oldValue) : null,
                         handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
             }
-            channel.pushRecord(record);
+            result.add(record);
         }
+        return result;
     }
     
-    private void handleDeleteRowsEvent(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+    private List<Record> handleDeleteRowsEvent(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
+        List<Record> result = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(IngestDataChangeType.DELETE);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
             }
-            channel.pushRecord(record);
+            result.add(record);
         }
+        return result;
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
-        Optional<MySQLDataTypeHandler> dataTypeHandler = MySQLDataTypeHandlerFactory.findInstance(columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), MySQLDataTypeHandlerFactory::findInstance);
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
@@ -192,5 +252,6 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         if (null != client) {
             client.closeChannel();
         }
+        convertExecutor.shutdown();
     }
 }
@@ -29,11 +29,7 @@ import java.util.Optional;
 public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     
     @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        return super.buildInsertSQL(schemaName, dataRecord) + buildDuplicateUpdateSQL(dataRecord);
-    }
-    
-    private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
+    protected Optional<String> buildInsertConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
             Column column = dataRecord.getColumn(i);
@@ -47,7 +43,7 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
             result.append(quote(column.getName())).append("=VALUES(").append(quote(column.getName())).append("),");
         }
         result.setLength(result.length() - 1);
-        return result.toString();
+        return Optional.of(result.toString());
     }
     
     @Override
@@ -55,6 +51,11 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
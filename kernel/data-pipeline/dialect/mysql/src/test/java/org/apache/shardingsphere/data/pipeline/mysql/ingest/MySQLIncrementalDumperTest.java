@@ -58,11 +58,18 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -111,9 +118,11 @@ public final class MySQLIncrementalDumperTest {
     
     @After
     public void tearDown() {
+        incrementalDumper.stop();
         dataSourceManager.close();
     }
     
+    @SuppressWarnings("unchecked")
     @Test
     public void assertWriteRowsEvent() throws InvocationTargetException, NoSuchMethodException, IllegalAccessException {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
@@ -122,14 +131,14 @@ public final class MySQLIncrementalDumperTest {
         List<Serializable[]> rows = new ArrayList<>(1);
         rows.add(new String[]{"1", "order"});
         rowsEvent.setAfterRows(rows);
-        ReflectionUtil.invokeMethod(incrementalDumper, "handleWriteRowsEvent", new Class[]{WriteRowsEvent.class, PipelineTableMetaData.class},
+        List<Record> records = (List<Record>) ReflectionUtil.invokeMethod(incrementalDumper, "handleWriteRowsEvent", new Class[]{WriteRowsEvent.class, PipelineTableMetaData.class},
                 new Object[]{rowsEvent, pipelineTableMetaData});
-        List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(DataRecord.class));
         assertThat(((DataRecord) records.get(0)).getType(), is(IngestDataChangeType.INSERT));
     }
     
+    @SuppressWarnings("unchecked")
     @Test
     public void assertUpdateRowsEvent() throws InvocationTargetException, NoSuchMethodException, IllegalAccessException {
         UpdateRowsEvent rowsEvent = new UpdateRowsEvent();
@@ -141,14 +150,14 @@ public final class MySQLIncrementalDumperTest {
         afterRows.add(new String[]{"1", "order_new"});
         rowsEvent.setBeforeRows(beforeRows);
         rowsEvent.setAfterRows(afterRows);
-        ReflectionUtil.invokeMethod(incrementalDumper, "handleUpdateRowsEvent", new Class[]{UpdateRowsEvent.class, PipelineTableMetaData.class},
+        List<Record> records = (List<Record>) ReflectionUtil.invokeMethod(incrementalDumper, "handleUpdateRowsEvent", new Class[]{UpdateRowsEvent.class, PipelineTableMetaData.class},
                 new Object[]{rowsEvent, pipelineTableMetaData});
-        List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(DataRecord.class));
         assertThat(((DataRecord) records.get(0)).getType(), is(IngestDataChangeType.UPDATE));
     }
     
+    @SuppressWarnings("unchecked")
     @Test
     public void assertDeleteRowsEvent() throws InvocationTargetException, NoSuchMethodException, IllegalAccessException {
         DeleteRowsEvent rowsEvent = new DeleteRowsEvent();
@@ -157,8 +166,8 @@ public final class MySQLIncrementalDumperTest {
         List<Serializable[]> rows = new ArrayList<>(1);
         rows.add(new String[]{"1", "order"});
         rowsEvent.setBeforeRows(rows);
-        ReflectionUtil.invokeMethod(incrementalDumper, "handleDeleteRowsEvent", new Class[]{DeleteRowsEvent.class, PipelineTableMetaData.class}, new Object[]{rowsEvent, pipelineTableMetaData});
-        List<Record> records = channel.fetchRecords(1, 0);
+        List<Record> records = (List<Record>) ReflectionUtil.invokeMethod(incrementalDumper, "handleDeleteRowsEvent", new Class[]{DeleteRowsEvent.class, PipelineTableMetaData.class},
+                new Object[]{rowsEvent, pipelineTableMetaData});
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(DataRecord.class));
         assertThat(((DataRecord) records.get(0)).getType(), is(IngestDataChangeType.DELETE));
@@ -166,8 +175,7 @@ public final class MySQLIncrementalDumperTest {
     
     @Test
     public void assertPlaceholderEvent() {
-        invokeHandleEvent(new PlaceholderEvent());
-        List<Record> records = channel.fetchRecords(1, 0);
+        List<Record> records = invokeHandleEvent(new PlaceholderEvent());
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
     }
@@ -176,14 +184,60 @@ public final class MySQLIncrementalDumperTest {
     public void assertRowsEventFiltered() {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
         rowsEvent.setDatabaseName("unknown_database");
-        invokeHandleEvent(rowsEvent);
-        List<Record> records = channel.fetchRecords(1, 0);
+        List<Record> records = invokeHandleEvent(rowsEvent);
         assertThat(records.size(), is(1));
         assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
     }
     
+    @Test
+    public void assertPushConvertedRecordsInReceivedOrder() throws NoSuchFieldException, IllegalAccessException {
+        PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
+        when(metaDataLoader.getTableMetaData(any(), eq("t_order"))).thenReturn(pipelineTableMetaData);
+        ReflectionUtil.setFieldValue(incrementalDumper, "metaDataLoader", metaDataLoader);
+        for (int i = 0; i < 10; i++) {
+            PlaceholderEvent placeholderEvent = new PlaceholderEvent();
+            placeholderEvent.setFileName("binlog-000001");
+            placeholderEvent.setPosition(i * 2);
+            WriteRowsEvent rowsEvent = new WriteRowsEvent();
+            rowsEvent.setFileName("binlog-000001");
+            rowsEvent.setPosition(i * 2 + 1);
+            rowsEvent.setDatabaseName("ds_0");
+            rowsEvent.setTableName("t_order");
+            rowsEvent.setAfterRows(Collections.singletonList(new Serializable[]{i, "order"}));
+            invokeConvertEvent(placeholderEvent);
+            invokeConvertEvent(rowsEvent);
+        }
+        invokePushConvertedRecords();
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(records.size(), is(20));
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(((BinlogPosition) records.get(i).getPosition()).getPosition(), is((long) i));
+            assertThat(records.get(i), instanceOf(0 == i % 2 ? PlaceholderRecord.class : DataRecord.class));
+        }
+    }
+    
+    @Test
+    public void assertStopShutdownConvertExecutor() throws NoSuchFieldException, IllegalAccessException {
+        incrementalDumper.stop();
+        assertTrue(ReflectionUtil.getFieldValue(incrementalDumper, "convertExecutor", ExecutorService.class).isShutdown());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void invokeConvertEvent(final AbstractBinlogEvent event) {
+        Queue<Future<List<Record>>> convertingEvents = ReflectionUtil.getFieldValue(incrementalDumper, "convertingEvents", Queue.class);
+        Future<List<Record>> convertingEvent = (Future<List<Record>>) ReflectionUtil.invokeMethod(incrementalDumper, "convertEvent", new Class[]{AbstractBinlogEvent.class}, new Object[]{event});
+        convertingEvents.add(convertingEvent);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void invokePushConvertedRecords() {
+        ReflectionUtil.invokeMethod(incrementalDumper, "pushConvertedRecords", new Class[]{int.class}, new Object[]{0});
+    }
+    
+    @SuppressWarnings("unchecked")
     @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
-    private void invokeHandleEvent(final AbstractBinlogEvent event) {
-        ReflectionUtil.invokeMethod(incrementalDumper, "handleEvent", new Class[]{AbstractBinlogEvent.class}, new Object[]{event});
+    private List<Record> invokeHandleEvent(final AbstractBinlogEvent event) {
+        return (List<Record>) ReflectionUtil.invokeMethod(incrementalDumper, "handleEvent", new Class[]{AbstractBinlogEvent.class}, new Object[]{event});
     }
 }
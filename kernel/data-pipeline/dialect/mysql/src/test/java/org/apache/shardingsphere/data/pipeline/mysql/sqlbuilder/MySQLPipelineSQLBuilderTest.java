@@ -44,6 +44,12 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t3"), 3);
+        assertThat(actual, is("INSERT INTO t3(id,sc,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", "id");
@@ -35,17 +35,13 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return Optional.of(String.format("CREATE SCHEMA %s", quote(schemaName)));
     }
     
-    @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        return super.buildInsertSQL(schemaName, dataRecord) + buildConflictSQL(dataRecord);
-    }
-    
     @Override
     public List<Column> extractUpdatedColumns(final DataRecord record) {
         return record.getColumns().stream().filter(each -> !(each.isUniqueKey())).collect(Collectors.toList());
     }
     
-    private String buildConflictSQL(final DataRecord dataRecord) {
+    @Override
+    protected Optional<String> buildInsertConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
             Column column = dataRecord.getColumn(i);
@@ -55,7 +51,12 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
             result.append(quote(column.getName())).append("=EXCLUDED.").append(quote(column.getName())).append(",");
         }
         result.setLength(result.length() - 1);
-        return result.toString();
+        return Optional.of(result.toString());
+    }
+    
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
     }
     
     @Override
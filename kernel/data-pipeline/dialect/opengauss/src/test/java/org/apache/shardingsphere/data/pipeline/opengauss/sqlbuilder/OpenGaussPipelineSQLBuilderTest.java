@@ -35,6 +35,12 @@ public final class OpenGaussPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t1(id,c0,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c0=EXCLUDED.c0,c1=EXCLUDED.c1,c2=EXCLUDED.c2,c3=EXCLUDED.c3"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t2"), 2);
+        assertThat(actual, is("INSERT INTO t2(id,c0,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE c0=EXCLUDED.c0,c1=EXCLUDED.c1,c2=EXCLUDED.c2,c3=EXCLUDED.c3"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
 import org.postgresql.replication.LogSequenceNumber;
@@ -29,6 +30,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * PostgreSQL WAL position initializer.
@@ -40,6 +44,8 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private static final String DECODE_PLUGIN = "test_decoding";
     
+    private static final Collection<String> DECODE_PLUGINS = Arrays.asList(DECODE_PLUGIN, PgOutputDecodingPlugin.PLUGIN_NAME);
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -60,7 +66,8 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String decodePlugin = isPublicationExisting(connection) ? PgOutputDecodingPlugin.PLUGIN_NAME : DECODE_PLUGIN;
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodePlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -70,13 +77,32 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private boolean isPublicationExisting(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, PgOutputDecodingPlugin.PUBLICATION_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
-        try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
+        return findSlotPlugin(connection, slotName).filter(DECODE_PLUGINS::contains).isPresent();
+    }
+    
+    /**
+     * Find decoding plugin of slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return decoding plugin name, empty if slot does not exist
+     * @throws SQLException SQL exception
+     */
+    public static Optional<String> findSlotPlugin(final Connection connection, final String slotName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSet.next();
+                return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
             }
         }
     }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -72,26 +73,37 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     @Override
     protected void runBlocking() {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
+            if (PgOutputDecodingPlugin.PLUGIN_NAME.equals(PostgreSQLPositionInitializer.findSlotPlugin(connection, slotName).orElse(null))) {
+                try (
+                        PGReplicationStream stream = logicalReplication.createPgOutputReplicationStream(connection, slotName, PgOutputDecodingPlugin.PUBLICATION_NAME,
+                                walPosition.getLogSequenceNumber())) {
+                    dump(stream, new PgOutputDecodingPlugin(utils));
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                channel.pushRecord(walEventConverter.convert(event));
+                return;
+            }
+            try (PGReplicationStream stream = logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())) {
+                dump(stream, new TestDecodingPlugin(utils));
             }
         } catch (final SQLException ex) {
             throw new IngestException(ex);
         }
     }
     
+    private void dump(final PGReplicationStream stream, final DecodingPlugin decodingPlugin) throws SQLException {
+        while (isRunning()) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                ThreadUtil.sleep(10L);
+                continue;
+            }
+            AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+            channel.pushRecord(walEventConverter.convert(event));
+        }
+    }
+    
     @Override
     protected void doStop() {
     }
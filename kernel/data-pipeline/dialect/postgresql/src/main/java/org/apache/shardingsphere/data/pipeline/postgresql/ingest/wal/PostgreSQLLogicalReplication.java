@@ -72,4 +72,26 @@ public final class PostgreSQLLogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream of pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection connection, final String slotName, final String publicationName,
+                                                               final BaseLogSequenceNumber startPosition) throws SQLException {
+        return connection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", 1)
+                .withSlotOption("publication_names", publicationName)
+                .start();
+    }
 }
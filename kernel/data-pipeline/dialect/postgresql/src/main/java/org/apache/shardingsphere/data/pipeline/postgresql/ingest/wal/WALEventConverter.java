@@ -26,6 +26,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
@@ -110,13 +111,27 @@ public final class WALEventConverter {
     }
     
     private DataRecord handleDeleteRowsEvent(final DeleteRowEvent event) {
+        PipelineTableMetaData tableMetaData = getPipelineTableMetaData(event.getTableName());
+        List<String> primaryKeyColumns = tableMetaData.getPrimaryKeyColumns();
+        List<Object> oldValues = event.getPrimaryKeys();
         // TODO completion columns
-        DataRecord result = createDataRecord(event, event.getPrimaryKeys().size());
+        DataRecord result = createDataRecord(event, primaryKeyColumns.size());
         result.setType(IngestDataChangeType.DELETE);
         // TODO Unique key may be a column within unique index
-        List<String> primaryKeyColumns = getPipelineTableMetaData(event.getTableName()).getPrimaryKeyColumns();
-        for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new Column(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), true, true));
+        if (oldValues.size() == primaryKeyColumns.size()) {
+            for (int i = 0; i < oldValues.size(); i++) {
+                result.addColumn(new Column(primaryKeyColumns.get(i), oldValues.get(i), true, true));
+            }
+            return result;
+        }
+        if (oldValues.size() != tableMetaData.getColumnNames().size()) {
+            throw new IngestException(String.format("Delete event of `%s` has %d old values, which match neither %d primary key columns nor %d columns",
+                    event.getTableName(), oldValues.size(), primaryKeyColumns.size(), tableMetaData.getColumnNames().size()));
+        }
+        for (int i = 0; i < oldValues.size(); i++) {
+            if (tableMetaData.getColumnMetaData(i + 1).isPrimaryKey()) {
+                result.addColumn(new Column(tableMetaData.getColumnMetaData(i + 1).getName(), oldValues.get(i), true, true));
+            }
         }
         return result;
     }
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.postgresql.core.Oid;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for binary messages of pgoutput.
+ *
+ * <p>
+ * Relation messages are cached by relation OID, so that column values of the following row messages are converted by type OID
+ * without parsing any text around them.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    /**
+     * Plugin name.
+     */
+    public static final String PLUGIN_NAME = "pgoutput";
+    
+    /**
+     * Publication name which pgoutput slot subscribes.
+     */
+    public static final String PUBLICATION_NAME = "pipeline";
+    
+    private static final Object UNCHANGED_TOASTED_VALUE = new Object();
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        switch (data.get()) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        boolean[] keyColumns = new boolean[columnCount];
+        int[] columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 0 != (data.get() & 1);
+            readString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName, tableName, keyColumns, columnTypes));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readNewTupleData(data, relation, null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        byte tupleType = data.get();
+        List<Object> beforeRow = null;
+        if ('K' == tupleType || 'O' == tupleType) {
+            beforeRow = readTupleData(data, relation);
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readNewTupleData(data, relation, 'O' == tupleType ? beforeRow : null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (!relation.keyColumns[i]) {
+                continue;
+            }
+            if (UNCHANGED_TOASTED_VALUE == beforeRow.get(i)) {
+                primaryKeys.add(null);
+            } else {
+                primaryKeys.add(beforeRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        return setTable(result, relation);
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setDatabaseName(relation.schemaName);
+        rowEvent.setTableName(relation.tableName);
+        return rowEvent;
+    }
+    
+    private List<Object> readNewTupleData(final ByteBuffer data, final PgOutputRelation relation, final List<Object> oldTupleData) {
+        List<Object> result = readTupleData(data, relation);
+        for (int i = 0; i < result.size(); i++) {
+            if (UNCHANGED_TOASTED_VALUE != result.get(i)) {
+                continue;
+            }
+            if (null == oldTupleData) {
+                throw new IngestException(String.format("Unchanged toasted value of `%s` column %d is not in WAL, REPLICA IDENTITY FULL is required", relation.tableName, i + 1));
+            }
+            if (UNCHANGED_TOASTED_VALUE == oldTupleData.get(i)) {
+                throw new IngestException(String.format("Unchanged toasted value of `%s` column %d is not in old tuple of WAL either", relation.tableName, i + 1));
+            }
+            result.set(i, oldTupleData.get(i));
+        }
+        return result;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte kind = data.get();
+            switch (kind) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(UNCHANGED_TOASTED_VALUE);
+                    break;
+                case 't':
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.columnTypes[i]));
+                    break;
+                default:
+                    throw new IngestException("Unsupported tuple data kind: " + (char) kind);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int columnType) {
+        switch (columnType) {
+            case Oid.NUMERIC:
+                return new BigDecimal(value);
+            case Oid.INT2:
+                return Short.parseShort(value);
+            case Oid.INT4:
+                return Integer.parseInt(value);
+            case Oid.INT8:
+                return Long.parseLong(value);
+            case Oid.FLOAT4:
+                return Float.parseFloat(value);
+            case Oid.FLOAT8:
+                return Double.parseDouble(value);
+            case Oid.BOOL:
+                return "t".equals(value);
+            case Oid.TIME:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.DATE:
+                return Date.valueOf(value);
+            case Oid.TIMESTAMP:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.BYTEA:
+                return decodeHex(value.substring(2));
+            default:
+                return value;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int end = data.position();
+        while (0 != data.get(end)) {
+            end++;
+        }
+        byte[] result = new byte[end - data.position()];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] decodeHex(final String hexString) {
+        int dataLength = hexString.length();
+        Preconditions.checkArgument(0 == (dataLength & 1), "Illegal hex data `%s`", hexString);
+        byte[] result = new byte[dataLength >>> 1];
+        for (int i = 0; i < dataLength; i += 2) {
+            int firstHexChar = Character.digit(hexString.charAt(i), 16);
+            int secondHexChar = Character.digit(hexString.charAt(i + 1), 16);
+            Preconditions.checkArgument(-1 != firstHexChar && -1 != secondHexChar, "Illegal hex byte `%s` in index `%d`", hexString, i);
+            result[i >>> 1] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PgOutputRelation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final boolean[] keyColumns;
+        
+        private final int[] columnTypes;
+    }
+}
@@ -31,5 +31,8 @@ import java.util.List;
 @ToString(callSuper = true)
 public final class DeleteRowEvent extends AbstractRowEvent {
     
+    /**
+     * Old values of replica identity columns, which are all columns of the table with {@code REPLICA IDENTITY FULL}.
+     */
     private List<Object> primaryKeys;
 }
@@ -34,13 +34,9 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return Optional.of(String.format("CREATE SCHEMA IF NOT EXISTS %s", quote(schemaName)));
     }
     
-    @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        return super.buildInsertSQL(schemaName, dataRecord) + buildConflictSQL(dataRecord);
-    }
-    
     // Refer to https://www.postgresql.org/docs/current/sql-insert.html
-    private String buildConflictSQL(final DataRecord dataRecord) {
+    @Override
+    protected Optional<String> buildInsertConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
         for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
             result.append(each.getName()).append(",");
@@ -55,7 +51,12 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
             result.append(quote(column.getName())).append("=EXCLUDED.").append(quote(column.getName())).append(",");
         }
         result.setLength(result.length() - 1);
-        return result.toString();
+        return Optional.of(result.toString());
+    }
+    
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
     }
     
     @Override
@@ -63,6 +63,7 @@ public final class PostgreSQLPositionInitializerTest {
         PreparedStatement lsn96PreparedStatement = mockPostgreSQL96LSN();
         when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", PostgreSQLPositionInitializer.getUniqueSlotName(connection, ""),
                 "test_decoding"))).thenReturn(mock(PreparedStatement.class));
+        mockPublicationExistsOrNot(false);
         when(connection.prepareStatement("SELECT PG_CURRENT_XLOG_LOCATION()")).thenReturn(lsn96PreparedStatement);
         PreparedStatement lsn10PreparedStatement = mockPostgreSQL10LSN();
         when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(lsn10PreparedStatement);
@@ -85,6 +86,18 @@ public final class PostgreSQLPositionInitializerTest {
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    public void assertCreatePgOutputSlotWhenPublicationExists() throws SQLException {
+        mockSlotExistsOrNot(false);
+        mockPublicationExistsOrNot(true);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", PostgreSQLPositionInitializer.getUniqueSlotName(connection, ""),
+                "pgoutput"))).thenReturn(preparedStatement);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        new PostgreSQLPositionInitializer().init(dataSource, "");
+        verify(preparedStatement).execute();
+    }
+    
     @Test(expected = RuntimeException.class)
     public void assertGetCurrentPositionThrowException() throws SQLException {
         mockSlotExistsOrNot(false);
@@ -116,7 +129,19 @@ public final class PostgreSQLPositionInitializerTest {
     @SneakyThrows(SQLException.class)
     private void mockSlotExistsOrNot(final boolean exists) {
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
-        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        when(connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(exists);
+        if (exists) {
+            when(resultSet.getString(1)).thenReturn("test_decoding");
+        }
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void mockPublicationExistsOrNot(final boolean exists) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(preparedStatement);
         ResultSet resultSet = mock(ResultSet.class);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(exists);
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.datasource.DefaultPipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
@@ -50,6 +51,7 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class WALEventConverterTest {
     
@@ -110,6 +112,29 @@ public final class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.DELETE));
     }
     
+    @Test
+    public void assertConvertDeleteRowEventWithReplicaIdentityFull() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setDatabaseName("");
+        event.setTableName("t_order");
+        event.setPrimaryKeys(Arrays.asList(999, "yyy"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertThat(actual.getType(), is(IngestDataChangeType.DELETE));
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getColumn(0).getName(), is("order_id"));
+        assertThat(actual.getColumn(0).getValue(), is(999));
+        assertTrue(actual.getColumn(0).isUniqueKey());
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertConvertDeleteRowEventWithMismatchedOldValues() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setDatabaseName("");
+        event.setTableName("t_order");
+        event.setPrimaryKeys(Arrays.asList(999, "yyy", "zzz"));
+        walEventConverter.convert(event);
+    }
+    
     @Test
     public void assertConvertPlaceholderEvent() {
         Record record = walEventConverter.convert(new PlaceholderEvent());
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        ByteBuffer relation = ByteBuffer.allocate(128);
+        relation.put((byte) 'R').putInt(16384);
+        putString(relation, "public");
+        putString(relation, "t_order");
+        relation.put((byte) 'd').putShort((short) 4);
+        putColumn(relation, true, "order_id", Oid.INT8);
+        putColumn(relation, false, "status", Oid.VARCHAR);
+        putColumn(relation, false, "amount", Oid.NUMERIC);
+        putColumn(relation, false, "paid", Oid.BOOL);
+        relation.flip();
+        assertThat(decodingPlugin.decode(relation, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(16384).put((byte) 'N').putShort((short) 4);
+        putTextValue(data, "1");
+        putTextValue(data, "it's ok");
+        putTextValue(data, "1.50");
+        data.put((byte) 'n');
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.<Object>asList(1L, "it's ok", new BigDecimal("1.50"), null)));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16384).put((byte) 'O').putShort((short) 4);
+        putTextValue(data, "1");
+        putTextValue(data, "toasted");
+        putTextValue(data, "1.50");
+        putTextValue(data, "f");
+        data.put((byte) 'N').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'u');
+        putTextValue(data, "1.50");
+        putTextValue(data, "t");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow(), is(Arrays.<Object>asList(1L, "toasted", new BigDecimal("1.50"), true)));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValueWithoutOldTuple() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16384).put((byte) 'N').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'u');
+        putTextValue(data, "1.50");
+        putTextValue(data, "t");
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(16384).put((byte) 'K').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'n').put((byte) 'n').put((byte) 'n');
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.<Object>asList(1L)));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEventWithReplicaIdentityFull() {
+        ByteBuffer relation = ByteBuffer.allocate(128);
+        relation.put((byte) 'R').putInt(16385);
+        putString(relation, "public");
+        putString(relation, "t_order_item");
+        relation.put((byte) 'f').putShort((short) 4);
+        putColumn(relation, true, "item_id", Oid.INT8);
+        putColumn(relation, true, "status", Oid.VARCHAR);
+        putColumn(relation, true, "amount", Oid.NUMERIC);
+        putColumn(relation, true, "paid", Oid.BOOL);
+        relation.flip();
+        decodingPlugin.decode(relation, logSequenceNumber);
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(16385).put((byte) 'O').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'u');
+        putTextValue(data, "1.50");
+        putTextValue(data, "f");
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order_item"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.<Object>asList(1L, null, new BigDecimal("1.50"), false)));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValueNotInOldTuple() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16384).put((byte) 'O').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'u');
+        putTextValue(data, "1.50");
+        putTextValue(data, "f");
+        data.put((byte) 'N').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'u');
+        putTextValue(data, "1.50");
+        putTextValue(data, "t");
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeBeginEvent() {
+        ByteBuffer data = ByteBuffer.allocate(21);
+        data.put((byte) 'B').putLong(1L).putLong(1L).putInt(1);
+        data.flip();
+        assertThat(decodingPlugin.decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeRowEventOfUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(16);
+        data.put((byte) 'I').putInt(1).put((byte) 'N').putShort((short) 0);
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    private void putColumn(final ByteBuffer data, final boolean key, final String name, final int type) {
+        data.put((byte) (key ? 1 : 0));
+        putString(data, name);
+        data.putInt(type).putInt(-1);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTextValue(final ByteBuffer data, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+}
@@ -38,6 +38,13 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildMultiRowInsertSQL("schema1", mockDataRecord(), 2);
+        assertThat(actual, is("INSERT INTO schema1.t_order(order_id,user_id,status) VALUES(?,?,?),(?,?,?) ON CONFLICT (order_id)"
+                + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
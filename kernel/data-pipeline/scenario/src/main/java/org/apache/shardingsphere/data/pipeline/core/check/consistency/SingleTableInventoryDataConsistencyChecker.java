@@ -106,6 +106,7 @@ public final class SingleTableInventoryDataConsistencyChecker {
         DataConsistencyCalculateParameter sourceParam = buildParameter(
                 sourceDataSource, schemaName, sourceTableName, columnNames, sourceDatabaseType, targetDatabaseType, uniqueKey,
                 tableCheckPositions.get(sourceTableName));
+        sourceParam.setSourceSide(true);
         String targetTableName = targetTable.getTableName().getOriginal();
         DataConsistencyCalculateParameter targetParam = buildParameter(
                 targetDataSource, targetTable.getSchemaName().getOriginal(), targetTableName, columnNames, targetDatabaseType, sourceDatabaseType, uniqueKey,
@@ -150,7 +151,10 @@ public final class SingleTableInventoryDataConsistencyChecker {
                                                              final String schemaName, final String tableName, final Collection<String> columnNames,
                                                              final String sourceDatabaseType, final String targetDatabaseType, final PipelineColumnMetaData uniqueKey,
                                                              final Object tableCheckPositionValue) {
-        return new DataConsistencyCalculateParameter(sourceDataSource, schemaName, tableName, columnNames, sourceDatabaseType, targetDatabaseType, uniqueKey, tableCheckPositionValue);
+        DataConsistencyCalculateParameter result = new DataConsistencyCalculateParameter(
+                sourceDataSource, schemaName, tableName, columnNames, sourceDatabaseType, targetDatabaseType, uniqueKey, tableCheckPositionValue);
+        result.setJobId(jobId);
+        return result;
     }
     
     private <T> T waitFuture(final Future<T> future) {
@@ -80,7 +80,9 @@ public final class ContextManager implements AutoCloseable {
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED));
     }
     
     /**
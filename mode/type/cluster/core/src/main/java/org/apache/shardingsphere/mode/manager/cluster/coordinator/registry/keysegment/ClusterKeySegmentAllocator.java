@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keysegment;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
+import org.apache.shardingsphere.mode.keysegment.node.KeySegmentNode;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.RegistryCenter;
+
+/**
+ * Key segment allocator for cluster mode.
+ */
+@RequiredArgsConstructor
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private final RegistryCenter registryCenter;
+    
+    @Override
+    public long allocate(final String segmentName, final long step) {
+        GlobalLockDefinition lockDefinition = new GlobalLockDefinition("key_segment_" + segmentName);
+        Preconditions.checkState(registryCenter.getGlobalLockPersistService().tryLock(lockDefinition, LOCK_TIMEOUT_MILLIS), "Can not lock key segment `%s`.", segmentName);
+        try {
+            String path = KeySegmentNode.getKeySegmentPath(segmentName);
+            String nextKey = registryCenter.getRepository().getDirectly(path);
+            long result = Strings.isNullOrEmpty(nextKey) ? 1L : Long.parseLong(nextKey);
+            registryCenter.getRepository().persist(path, String.valueOf(result + step));
+            return result;
+        } finally {
+            registryCenter.getGlobalLockPersistService().unlock(lockDefinition);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keysegment;
+
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.RegistryCenter;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.GlobalLockPersistService;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ClusterKeySegmentAllocatorTest {
+    
+    @Test
+    public void assertAllocate() {
+        RegistryCenter registryCenter = mock(RegistryCenter.class);
+        GlobalLockPersistService lockPersistService = mock(GlobalLockPersistService.class);
+        when(lockPersistService.tryLock(any(GlobalLockDefinition.class), anyLong())).thenReturn(true);
+        when(registryCenter.getGlobalLockPersistService()).thenReturn(lockPersistService);
+        ClusterPersistRepository repository = mock(ClusterPersistRepository.class);
+        when(repository.getDirectly("/key_segment/foo_segment")).thenReturn("101");
+        when(registryCenter.getRepository()).thenReturn(repository);
+        assertThat(new ClusterKeySegmentAllocator(registryCenter).allocate("foo_segment", 100L), is(101L));
+        verify(repository).persist("/key_segment/foo_segment", "201");
+        verify(lockPersistService).unlock(any(GlobalLockDefinition.class));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertAllocateFailureWhenLockTimeout() {
+        RegistryCenter registryCenter = mock(RegistryCenter.class);
+        GlobalLockPersistService lockPersistService = mock(GlobalLockPersistService.class);
+        when(registryCenter.getGlobalLockPersistService()).thenReturn(lockPersistService);
+        ClusterPersistRepository repository = mock(ClusterPersistRepository.class);
+        when(registryCenter.getRepository()).thenReturn(repository);
+        try {
+            new ClusterKeySegmentAllocator(registryCenter).allocate("foo_segment", 100L);
+        } finally {
+            verify(repository, never()).persist(any(), any());
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,6 +43,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchem
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.proxy.backend.communication.nativeprotocol.PassThroughQueryResult;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.RuleNotExistedException;
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseBackendHandler;
@@ -80,6 +82,8 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     
     private MergedResult mergedResult;
     
+    private PassThroughQueryResult passThroughQueryResult;
+    
     private final BackendConnection<?> backendConnection;
     
     public DatabaseCommunicationEngine(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final BackendConnection<?> backendConnection) {
@@ -138,9 +142,15 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     protected QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        passThroughQueryResult = isPassThroughQueryResult(queryResults, queryResultSample) ? (PassThroughQueryResult) queryResultSample : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isPassThroughQueryResult(final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
+        return 1 == queryResults.size() && queryResultSample instanceof PassThroughQueryResult
+                && mergedResult.isPassThrough() && queryHeaders.size() == queryResultSample.getMetaData().getColumnCount();
+    }
+    
     protected List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -211,6 +221,38 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         return null != mergedResult && mergedResult.next();
     }
     
+    /**
+     * Judge whether rows could be passed through to client without decoding.
+     *
+     * @return rows could be passed through or not
+     */
+    public boolean isPassThrough() {
+        return null != passThroughQueryResult;
+    }
+    
+    /**
+     * Get raw data of current row, which is only available if rows could be passed through.
+     *
+     * @return raw data of current row, which should be released by caller
+     */
+    public ByteBuf getRawRowData() {
+        return passThroughQueryResult.getRawRowData();
+    }
+    
+    protected Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     /**
      * Get query response row.
      *
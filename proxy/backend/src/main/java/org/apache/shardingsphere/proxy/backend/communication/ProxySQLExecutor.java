@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExe
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.RawSQLExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -45,6 +46,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDB
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.ProxyJDBCExecutor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.JDBCBackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.communication.nativeprotocol.MySQLNativeExecutor;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
@@ -74,6 +76,8 @@ import java.util.Optional;
  */
 public final class ProxySQLExecutor {
     
+    private static final String NATIVE_BACKEND_DRIVER_TYPE = "ExperimentalNative";
+    
     private final String type;
     
     private final JDBCBackendConnection backendConnection;
@@ -82,6 +86,8 @@ public final class ProxySQLExecutor {
     
     private final RawExecutor rawExecutor;
     
+    private final MySQLNativeExecutor nativeExecutor;
+    
     public ProxySQLExecutor(final String type, final JDBCBackendConnection backendConnection, final JDBCDatabaseCommunicationEngine databaseCommunicationEngine) {
         this.type = type;
         this.backendConnection = backendConnection;
@@ -91,6 +97,11 @@ public final class ProxySQLExecutor {
         jdbcExecutor = new ProxyJDBCExecutor(type, backendConnection.getConnectionSession(), databaseCommunicationEngine, new JDBCExecutor(executorEngine, connectionContext));
         rawExecutor = new RawExecutor(executorEngine, connectionContext, metaDataContexts.getMetaData().getProps(), ProxyContext.getInstance().getContextManager().getInstanceContext()
                 .getEventBusContext());
+        nativeExecutor = isNativeBackendEnabled(type, metaDataContexts) ? new MySQLNativeExecutor(backendConnection.getConnectionSession(), databaseCommunicationEngine) : null;
+    }
+    
+    private boolean isNativeBackendEnabled(final String type, final MetaDataContexts metaDataContexts) {
+        return JDBCDriverType.STATEMENT.equals(type) && NATIVE_BACKEND_DRIVER_TYPE.equals(metaDataContexts.getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_BACKEND_DRIVER_TYPE));
     }
     
     /**
@@ -182,8 +193,16 @@ public final class ProxySQLExecutor {
         int maxConnectionsSizePerQuery = ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         boolean isReturnGeneratedKeys = executionContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
-        return hasRawExecutionRule(rules) ? rawExecute(executionContext, rules, maxConnectionsSizePerQuery)
-                : useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
+        if (hasRawExecutionRule(rules)) {
+            return rawExecute(executionContext, rules, maxConnectionsSizePerQuery);
+        }
+        if (null != nativeExecutor) {
+            Optional<ExecuteResult> nativeExecuteResult = nativeExecutor.execute(executionContext);
+            if (nativeExecuteResult.isPresent()) {
+                return Collections.singletonList(nativeExecuteResult.get());
+            }
+        }
+        return useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
     private boolean hasRawExecutionRule(final Collection<ShardingSphereRule> rules) {
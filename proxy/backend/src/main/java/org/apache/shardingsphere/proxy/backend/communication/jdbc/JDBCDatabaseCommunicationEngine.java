@@ -77,6 +77,8 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<QueryResult> cachedQueryResults = new CopyOnWriteArrayList<>();
+    
     private final JDBCBackendConnection backendConnection;
     
     private volatile SQLFederationExecutor federationExecutor;
@@ -105,6 +107,15 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add query result which holds resources besides result set, such as read ahead task.
+     *
+     * @param queryResult query result to be added
+     */
+    public void add(final QueryResult queryResult) {
+        cachedQueryResults.add(queryResult);
+    }
+    
     /**
      * Execute to database.
      *
@@ -192,6 +203,8 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
+        result.addAll(closeQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
@@ -203,6 +216,19 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private Collection<SQLException> closeQueryResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : cachedQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedQueryResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
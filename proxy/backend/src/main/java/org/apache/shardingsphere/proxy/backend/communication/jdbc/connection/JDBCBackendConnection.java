@@ -115,9 +115,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         SQLException sqlException = null;
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
-                }
+                executeSessionVariableSQLs(statement, setSQLs);
             } catch (final SQLException ex) {
                 sqlException = ex;
                 break;
@@ -136,6 +134,18 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         throw sqlException;
     }
     
+    private void executeSessionVariableSQLs(final Statement statement, final List<String> sqls) throws SQLException {
+        if (1 == sqls.size()) {
+            statement.execute(sqls.get(0));
+            return;
+        }
+        // Connections are borrowed per statement or transaction, so batch the SQLs to replay session variables in one round trip.
+        for (String each : sqls) {
+            statement.addBatch(each);
+        }
+        statement.executeBatch();
+    }
+    
     private void replayMethodsInvocation(final Connection target) {
         for (ConnectionPostProcessor<Connection> each : connectionPostProcessors) {
             each.process(target);
@@ -324,9 +334,7 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
         for (Connection each : values) {
             try (Statement statement = each.createStatement()) {
-                for (String eachResetSQL : resetSQLs) {
-                    statement.execute(eachResetSQL);
-                }
+                executeSessionVariableSQLs(statement, resetSQLs);
             } catch (final SQLException ex) {
                 exceptions.add(ex);
             }
@@ -20,12 +20,19 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.executor;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.async.CompletionOrderExecuteResults;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.async.CompletionOrderQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -33,6 +40,8 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCo
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -72,15 +81,41 @@ public final class ProxyJDBCExecutor {
             Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
             ExecuteProcessEngine.initializeExecution(queryContext, executionGroupContext, eventBusContext);
             SQLStatementContext<?> context = queryContext.getSqlStatementContext();
-            List<ExecuteResult> result = jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown,
-                            false));
+            ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+            SQLStatement sqlStatement = context.getSqlStatement();
+            List<ExecuteResult> result = isAsyncMergeQuery(context, executionGroupContext, isExceptionThrown, props)
+                    ? executeAsync(executionGroupContext, props,
+                            ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, sqlStatement, databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false))
+                    : jdbcExecutor.execute(executionGroupContext,
+                            ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, sqlStatement, databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, true),
+                            ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, sqlStatement, databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown, false));
             ExecuteProcessEngine.finishExecution(executionGroupContext.getExecutionID(), eventBusContext);
             return result;
         } finally {
             ExecuteProcessEngine.cleanExecution();
         }
     }
+    
+    private boolean isAsyncMergeQuery(final SQLStatementContext<?> sqlStatementContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                      final boolean isExceptionThrown, final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_ASYNC_MERGE_ENABLED) && sqlStatementContext.getSqlStatement() instanceof SelectStatement
+                && executionGroupContext.getInputGroups().size() > 1 && isExceptionThrown && !connectionSession.getConnectionContext().getTransactionConnectionContext().isInTransaction();
+    }
+    
+    private List<ExecuteResult> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final ConfigurationProperties props,
+                                             final JDBCExecutorCallback<ExecuteResult> callback) throws SQLException {
+        long timeoutMillis = props.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_GROUP_TIMEOUT_MILLISECONDS);
+        int executeResultCount = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            executeResultCount += each.getInputs().size();
+        }
+        CompletionOrderExecuteResults executeResults = new CompletionOrderExecuteResults(jdbcExecutor.executeAsync(executionGroupContext, callback, timeoutMillis), executeResultCount);
+        List<ExecuteResult> result = executeResults.getExecuteResults();
+        for (ExecuteResult each : result) {
+            if (each instanceof CompletionOrderQueryResult) {
+                databaseCommunicationEngine.add((QueryResult) each);
+            }
+        }
+        return result;
+    }
 }
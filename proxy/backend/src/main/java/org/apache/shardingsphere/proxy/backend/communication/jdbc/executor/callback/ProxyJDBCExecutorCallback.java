@@ -26,9 +26,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.s
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -83,7 +85,16 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, storageType);
+        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+            return new JDBCMemoryQueryResult(resultSet, storageType);
+        }
+        int prefetchSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_PREFETCH_SIZE);
+        if (prefetchSize <= 0) {
+            return new JDBCStreamQueryResult(resultSet);
+        }
+        JDBCPrefetchStreamQueryResult result = new JDBCPrefetchStreamQueryResult(resultSet, storageType, prefetchSize, BackendExecutorContext.getInstance().getPrefetchExecutorService());
+        databaseCommunicationEngine.add(result);
+        return result;
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.PasswordEncryption;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.ServerVersion;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationPlugin;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthMoreDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchRequestPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLAuthSwitchResponsePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+
+/**
+ * Authentication handler of MySQL native backend connection.
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeAuthenticationHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int REQUEST_PUBLIC_KEY = 2;
+    
+    private static final int PERFORM_FULL_AUTHENTICATION = 4;
+    
+    private final MySQLNativeConnectionOption option;
+    
+    private final int characterSet;
+    
+    private final Promise<Void> authResultCallback;
+    
+    private ServerVersion serverVersion;
+    
+    private byte[] seed;
+    
+    private boolean publicKeyRequested;
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (msg instanceof MySQLHandshakePacket) {
+            handleHandshake(ctx, (MySQLHandshakePacket) msg);
+        } else if (msg instanceof MySQLAuthSwitchRequestPacket) {
+            handleAuthSwitchRequest(ctx, (MySQLAuthSwitchRequestPacket) msg);
+        } else if (msg instanceof MySQLAuthMoreDataPacket) {
+            handleCachingSha2Auth(ctx, (MySQLAuthMoreDataPacket) msg);
+        } else if (msg instanceof MySQLOKPacket) {
+            ctx.channel().pipeline().remove(this);
+            authResultCallback.setSuccess(null);
+        } else if (msg instanceof MySQLErrPacket) {
+            MySQLErrPacket errPacket = (MySQLErrPacket) msg;
+            authResultCallback.tryFailure(new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode()));
+            ctx.channel().close();
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private void handleHandshake(final ChannelHandlerContext ctx, final MySQLHandshakePacket handshake) {
+        serverVersion = new ServerVersion(handshake.getServerVersion());
+        seed = handshake.getAuthPluginData().getAuthenticationPluginData();
+        MySQLHandshakeResponse41Packet result = new MySQLHandshakeResponse41Packet(1, MAX_PACKET_SIZE, characterSet, option.getUsername());
+        result.setAuthResponse(isPasswordEmpty() ? new byte[0] : PasswordEncryption.encryptWithMySQL41(option.getPassword().getBytes(), seed));
+        result.setCapabilityFlags(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_LONG_PASSWORD, MySQLCapabilityFlag.CLIENT_LONG_FLAG,
+                MySQLCapabilityFlag.CLIENT_PROTOCOL_41, MySQLCapabilityFlag.CLIENT_TRANSACTIONS, MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION));
+        if (!option.getDatabase().isEmpty()) {
+            result.setDatabase(option.getDatabase());
+        }
+        result.setAuthPluginName(MySQLAuthenticationMethod.SECURE_PASSWORD_AUTHENTICATION);
+        ctx.channel().writeAndFlush(result);
+    }
+    
+    @SneakyThrows(NoSuchAlgorithmException.class)
+    private void handleAuthSwitchRequest(final ChannelHandlerContext ctx, final MySQLAuthSwitchRequestPacket authSwitchRequest) {
+        seed = authSwitchRequest.getAuthPluginData().getAuthenticationPluginData();
+        byte[] authPluginResponse;
+        switch (MySQLAuthenticationPlugin.getPluginByName(authSwitchRequest.getAuthPluginName())) {
+            case NATIVE_PASSWORD_AUTHENTICATION:
+                authPluginResponse = isPasswordEmpty() ? new byte[0] : PasswordEncryption.encryptWithMySQL41(option.getPassword().getBytes(), seed);
+                break;
+            case SHA2_AUTHENTICATION:
+                authPluginResponse = isPasswordEmpty() ? new byte[0] : PasswordEncryption.encryptWithSha2(option.getPassword().getBytes(), seed);
+                break;
+            default:
+                authPluginResponse = isPasswordEmpty() ? new byte[0] : option.getPassword().getBytes();
+        }
+        ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authSwitchRequest.getSequenceId() + 1, authPluginResponse));
+    }
+    
+    private void handleCachingSha2Auth(final ChannelHandlerContext ctx, final MySQLAuthMoreDataPacket authMoreData) {
+        // how caching_sha2_password works: https://dev.mysql.com/doc/dev/mysql-server/8.0.11/page_caching_sha2_authentication_exchanges.html#sect_caching_sha2_info
+        if (!publicKeyRequested) {
+            if (PERFORM_FULL_AUTHENTICATION == authMoreData.getPluginData()[0]) {
+                publicKeyRequested = true;
+                ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authMoreData.getSequenceId() + 1, new byte[]{REQUEST_PUBLIC_KEY}));
+            }
+            return;
+        }
+        String transformation = serverVersion.greaterThanOrEqualTo(8, 0, 5) ? "RSA/ECB/OAEPWithSHA-1AndMGF1Padding" : "RSA/ECB/PKCS1Padding";
+        ctx.channel().writeAndFlush(new MySQLAuthSwitchResponsePacket(authMoreData.getSequenceId() + 1,
+                PasswordEncryption.encryptWithRSAPublicKey(null == option.getPassword() ? "" : option.getPassword(), seed, transformation, new String(authMoreData.getPluginData()))));
+    }
+    
+    private boolean isPasswordEmpty() {
+        return null == option.getPassword() || option.getPassword().isEmpty();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+        if (authResultCallback.tryFailure(cause)) {
+            ctx.channel().close();
+            return;
+        }
+        ctx.fireExceptionCaught(cause);
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        authResultCallback.tryFailure(new SQLException("Connection closed before authentication completed."));
+        ctx.fireChannelInactive();
+    }
+}
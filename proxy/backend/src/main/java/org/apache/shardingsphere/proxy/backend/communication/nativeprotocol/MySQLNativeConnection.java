@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.Promise;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLNegotiatePackageDecoder;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MySQL native backend connection, which talks to backend by MySQL protocol instead of JDBC driver.
+ */
+public final class MySQLNativeConnection {
+    
+    private final Channel channel;
+    
+    @Getter
+    private final MySQLCharacterSet characterSet;
+    
+    private final long readTimeoutMillis;
+    
+    private final MySQLNativeResponseHandler responseHandler;
+    
+    public MySQLNativeConnection(final Channel channel, final MySQLCharacterSet characterSet, final long readTimeoutMillis) {
+        this.channel = channel;
+        this.characterSet = characterSet;
+        this.readTimeoutMillis = readTimeoutMillis;
+        responseHandler = channel.pipeline().get(MySQLNativeResponseHandler.class);
+    }
+    
+    /**
+     * Connect to MySQL and authenticate.
+     *
+     * @param eventLoopGroup event loop group
+     * @param option connection option
+     * @param characterSet character set of connection
+     * @return connected connection
+     * @throws SQLException SQL exception if connect or authenticate failed
+     */
+    public static MySQLNativeConnection connect(final EventLoopGroup eventLoopGroup, final MySQLNativeConnectionOption option, final MySQLCharacterSet characterSet) throws SQLException {
+        Promise<Void> authResultCallback = eventLoopGroup.next().newPromise();
+        ChannelFuture channelFuture = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, option.getConnectTimeoutMillis())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        socketChannel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(characterSet.getCharset());
+                        socketChannel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+                        socketChannel.pipeline().addLast(new MySQLNegotiatePackageDecoder());
+                        socketChannel.pipeline().addLast(new MySQLNativeAuthenticationHandler(option, characterSet.getId(), authResultCallback));
+                        socketChannel.pipeline().addLast(new MySQLNativeResponseHandler());
+                    }
+                }).connect(option.getHost(), option.getPort());
+        channelFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                authResultCallback.tryFailure(future.cause());
+            }
+        });
+        try {
+            authResultCallback.get(option.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            channelFuture.channel().close();
+            throw new SQLException(ex);
+        } catch (final ExecutionException | TimeoutException ex) {
+            channelFuture.channel().close();
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(String.format("Can not connect to `%s:%s`.", option.getHost(), option.getPort()), ex);
+        }
+        return new MySQLNativeConnection(channelFuture.channel(), characterSet, option.getReadTimeoutMillis());
+    }
+    
+    /**
+     * Get charset of connection.
+     *
+     * @return charset of connection
+     */
+    public Charset getCharset() {
+        return characterSet.getCharset();
+    }
+    
+    /**
+     * Send COM_QUERY command.
+     *
+     * @param sql SQL to be executed
+     */
+    public void sendQuery(final String sql) {
+        channel.writeAndFlush(new MySQLComQueryPacket(sql)).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    }
+    
+    /**
+     * Read next packet received from backend.
+     *
+     * @return packet with sequence ID and payload, which should be released by caller
+     * @throws SQLException SQL exception if connection failed, closed or timed out
+     */
+    public ByteBuf readPacket() throws SQLException {
+        return responseHandler.take(readTimeoutMillis);
+    }
+    
+    /**
+     * Judge whether connection is active.
+     *
+     * @return connection is active or not
+     */
+    public boolean isActive() {
+        return channel.isActive();
+    }
+    
+    /**
+     * Close connection.
+     */
+    public void close() {
+        channel.close();
+        responseHandler.releaseQueuedPackets();
+    }
+}
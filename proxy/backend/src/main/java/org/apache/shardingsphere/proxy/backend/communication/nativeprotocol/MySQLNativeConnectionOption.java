@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.metadata.UnrecognizedDatabaseURLException;
+import org.apache.shardingsphere.infra.database.metadata.url.JdbcUrl;
+import org.apache.shardingsphere.infra.database.metadata.url.StandardJdbcUrlParser;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Option of MySQL native backend connection.
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public final class MySQLNativeConnectionOption {
+    
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    
+    private static final int DEFAULT_PORT = 3306;
+    
+    private static final long DEFAULT_READ_TIMEOUT_MILLIS = 600000L;
+    
+    private static final String CONNECT_TIMEOUT = "connectTimeout";
+    
+    private static final String SOCKET_TIMEOUT = "socketTimeout";
+    
+    private static final String CHARACTER_ENCODING = "characterEncoding";
+    
+    private static final String USE_SSL = "useSSL";
+    
+    private static final String SSL_MODE = "sslMode";
+    
+    private static final Collection<String> HONORED_PROPERTIES = new HashSet<>(Arrays.asList(CONNECT_TIMEOUT, SOCKET_TIMEOUT, CHARACTER_ENCODING, USE_SSL, SSL_MODE));
+    
+    // Properties which only affect statements or value decoding of JDBC driver, rows are forwarded natively as backend encodes them.
+    private static final Collection<String> IRRELEVANT_PROPERTIES = new HashSet<>(Arrays.asList("useUnicode", "useServerPrepStmts", "cachePrepStmts", "prepStmtCacheSize", "prepStmtCacheSqlLimit",
+            "useLocalSessionState", "rewriteBatchedStatements", "cacheResultSetMetadata", "cacheServerConfiguration", "elideSetAutoCommits", "maintainTimeStats", "netTimeoutForStreamingResults",
+            "tinyInt1isBit", "serverTimezone", "zeroDateTimeBehavior"));
+    
+    private final String host;
+    
+    private final int port;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final String database;
+    
+    private final int connectTimeoutMillis;
+    
+    private final long readTimeoutMillis;
+    
+    private final Charset characterEncoding;
+    
+    /**
+     * Create option of MySQL native backend connection from Hikari data source.
+     *
+     * <p>
+     * Connect timeout, socket timeout and character encoding of JDBC URL are honored.
+     * Data source whose connections use SSL or any other connection property could not be connected natively.
+     * </p>
+     *
+     * @param dataSource Hikari data source
+     * @return option of MySQL native backend connection, empty if data source could not be connected natively
+     */
+    public static Optional<MySQLNativeConnectionOption> create(final HikariDataSource dataSource) {
+        if (null == dataSource.getJdbcUrl() || !dataSource.getJdbcUrl().startsWith(MYSQL_URL_PREFIX)) {
+            return Optional.empty();
+        }
+        JdbcUrl jdbcUrl;
+        try {
+            jdbcUrl = new StandardJdbcUrlParser().parse(dataSource.getJdbcUrl());
+        } catch (final UnrecognizedDatabaseURLException | IllegalArgumentException | ArrayIndexOutOfBoundsException ignored) {
+            return Optional.empty();
+        }
+        Properties props = new Properties();
+        props.putAll(jdbcUrl.getQueryProperties());
+        props.putAll(dataSource.getDataSourceProperties());
+        if (!isNativeConnectable(jdbcUrl, props)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(create(dataSource, jdbcUrl, props));
+        } catch (final IllegalArgumentException ex) {
+            log.info("Invalid connection property of `{}:{}` for native backend, use JDBC instead.", jdbcUrl.getHostname(), jdbcUrl.getPort(), ex);
+            return Optional.empty();
+        }
+    }
+    
+    private static MySQLNativeConnectionOption create(final HikariDataSource dataSource, final JdbcUrl jdbcUrl, final Properties props) {
+        int port = -1 == jdbcUrl.getPort() ? DEFAULT_PORT : jdbcUrl.getPort();
+        String database = null == jdbcUrl.getDatabase() ? "" : jdbcUrl.getDatabase();
+        int connectTimeoutMillis = Integer.parseInt(props.getProperty(CONNECT_TIMEOUT, "0"));
+        long readTimeoutMillis = Long.parseLong(props.getProperty(SOCKET_TIMEOUT, "0"));
+        Charset characterEncoding = props.containsKey(CHARACTER_ENCODING) ? Charset.forName(props.getProperty(CHARACTER_ENCODING)) : null;
+        return new MySQLNativeConnectionOption(jdbcUrl.getHostname(), port, dataSource.getUsername(), dataSource.getPassword(), database,
+                connectTimeoutMillis > 0 ? connectTimeoutMillis : (int) dataSource.getConnectionTimeout(), readTimeoutMillis > 0L ? readTimeoutMillis : DEFAULT_READ_TIMEOUT_MILLIS, characterEncoding);
+    }
+    
+    private static boolean isNativeConnectable(final JdbcUrl jdbcUrl, final Properties props) {
+        for (String each : props.stringPropertyNames()) {
+            if (!HONORED_PROPERTIES.contains(each) && !IRRELEVANT_PROPERTIES.contains(each)) {
+                log.info("Connection property `{}` of `{}:{}` is not supported by native backend, use JDBC instead.", each, jdbcUrl.getHostname(), jdbcUrl.getPort());
+                return false;
+            }
+        }
+        if (!Boolean.FALSE.toString().equalsIgnoreCase(props.getProperty(USE_SSL)) && !"DISABLED".equalsIgnoreCase(props.getProperty(SSL_MODE))) {
+            log.info("SSL is not disabled for `{}:{}`, which is not supported by native backend, use JDBC instead.", jdbcUrl.getHostname(), jdbcUrl.getPort());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.EventLoopGroup;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * MySQL native connection pool.
+ * 
+ * <p>
+ * Native connections share the connection budget of the Hikari data source: half of its maximum pool size is moved from Hikari to this pool while it is open,
+ * so the backend never sees more connections than the configured maximum pool size.
+ * Connection would not be waited for if pool is exhausted, so that caller could fall back to JDBC at once.
+ * </p>
+ */
+@Slf4j
+public final class MySQLNativeConnectionPool {
+    
+    private static final long RECONNECT_INTERVAL_MILLIS = 5000L;
+    
+    @Getter
+    private final HikariDataSource dataSource;
+    
+    private final EventLoopGroup eventLoopGroup;
+    
+    private final MySQLNativeConnectionOption option;
+    
+    private final int maximumPoolSize;
+    
+    private final Semaphore permits;
+    
+    private final Map<Integer, Queue<MySQLNativeConnection>> idleConnections = new ConcurrentHashMap<>();
+    
+    private volatile long lastConnectFailedMillis;
+    
+    private volatile boolean closed;
+    
+    public MySQLNativeConnectionPool(final HikariDataSource dataSource, final EventLoopGroup eventLoopGroup, final MySQLNativeConnectionOption option) {
+        this.dataSource = dataSource;
+        this.eventLoopGroup = eventLoopGroup;
+        this.option = option;
+        maximumPoolSize = dataSource.getMaximumPoolSize() / 2;
+        permits = new Semaphore(maximumPoolSize);
+        if (maximumPoolSize > 0) {
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(dataSource.getMaximumPoolSize() - maximumPoolSize);
+        }
+    }
+    
+    /**
+     * Try to get connection.
+     *
+     * @param characterSet character set of connection
+     * @return connection, empty if pool is exhausted, backend is unreachable or character set differs from character encoding of data source
+     */
+    public Optional<MySQLNativeConnection> tryGetConnection(final MySQLCharacterSet characterSet) {
+        if (null != option.getCharacterEncoding() && !option.getCharacterEncoding().equals(characterSet.getCharset())) {
+            return Optional.empty();
+        }
+        if (closed || System.currentTimeMillis() - lastConnectFailedMillis < RECONNECT_INTERVAL_MILLIS || !permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        Queue<MySQLNativeConnection> idleConnectionsOfCharacterSet = idleConnections.computeIfAbsent(characterSet.getId(), unused -> new ConcurrentLinkedQueue<>());
+        MySQLNativeConnection idleConnection = idleConnectionsOfCharacterSet.poll();
+        while (null != idleConnection) {
+            if (idleConnection.isActive()) {
+                return Optional.of(idleConnection);
+            }
+            idleConnection.close();
+            idleConnection = idleConnectionsOfCharacterSet.poll();
+        }
+        try {
+            return Optional.of(MySQLNativeConnection.connect(eventLoopGroup, option, characterSet));
+        } catch (final SQLException ex) {
+            log.warn("Can not create MySQL native connection to `{}:{}`, fall back to JDBC.", option.getHost(), option.getPort(), ex);
+            lastConnectFailedMillis = System.currentTimeMillis();
+            permits.release();
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Release connection.
+     *
+     * @param connection connection to be released
+     * @param reusable whether connection could be reused, connection would be closed if not
+     */
+    public void releaseConnection(final MySQLNativeConnection connection, final boolean reusable) {
+        if (reusable && !closed && connection.isActive()) {
+            idleConnections.get(connection.getCharacterSet().getId()).offer(connection);
+        } else {
+            connection.close();
+        }
+        permits.release();
+    }
+    
+    /**
+     * Close pool and give its connection budget back to Hikari data source.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Queue<MySQLNativeConnection> each : idleConnections.values()) {
+            MySQLNativeConnection connection = each.poll();
+            while (null != connection) {
+                connection.close();
+                connection = each.poll();
+            }
+        }
+        if (maximumPoolSize > 0 && !dataSource.isClosed()) {
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(dataSource.getMaximumPoolSize() + maximumPoolSize);
+        }
+    }
+}
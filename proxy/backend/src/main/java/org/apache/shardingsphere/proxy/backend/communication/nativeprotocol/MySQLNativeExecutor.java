@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
+import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngineFactory;
+import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecoratorEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * MySQL native executor.
+ * 
+ * <p>
+ * Execute single routed query whose result is transparent to proxy by MySQL protocol, so that rows could be passed through to client without decoding.
+ * Other SQLs are left to JDBC.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeExecutor {
+    
+    private static final int MAX_CHARACTER_SET_ID = 0xff;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final JDBCDatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    /**
+     * Execute by native protocol.
+     *
+     * @param executionContext execution context
+     * @return execute result, empty if execution context could not be executed natively
+     * @throws SQLException SQL exception
+     */
+    public Optional<ExecuteResult> execute(final ExecutionContext executionContext) throws SQLException {
+        if (!isNativeExecutable(executionContext)) {
+            return Optional.empty();
+        }
+        ExecutionUnit executionUnit = executionContext.getExecutionUnits().iterator().next();
+        Optional<MySQLNativeConnectionPool> pool = NativeBackendDataSource.getInstance().findMySQLPool(connectionSession.getDatabaseName(), executionUnit.getDataSourceName());
+        if (!pool.isPresent()) {
+            return Optional.empty();
+        }
+        MySQLCharacterSet characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get();
+        Optional<MySQLNativeConnection> connection = pool.get().tryGetConnection(characterSet);
+        if (!connection.isPresent()) {
+            return Optional.empty();
+        }
+        MySQLNativeQueryResult result = MySQLNativeQueryResult.execute(pool.get(), connection.get(), executionUnit.getSqlUnit().getSql());
+        databaseCommunicationEngine.add(result);
+        return Optional.of(result);
+    }
+    
+    private boolean isNativeExecutable(final ExecutionContext executionContext) {
+        if (1 != executionContext.getExecutionUnits().size() || !isTransparentQuery(executionContext.getSqlStatementContext())
+                || !executionContext.getExecutionUnits().iterator().next().getSqlUnit().getParameters().isEmpty()) {
+            return false;
+        }
+        if (!isStatelessSession() || !isSameCharacterSet()) {
+            return false;
+        }
+        ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(connectionSession.getDatabaseName());
+        String dataSourceName = executionContext.getExecutionUnits().iterator().next().getDataSourceName();
+        return database.getProtocolType() instanceof MySQLDatabaseType && database.getResourceMetaData().getStorageTypes().get(dataSourceName) instanceof MySQLDatabaseType
+                && !hasResultDecorator(database);
+    }
+    
+    private boolean isTransparentQuery(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+            return false;
+        }
+        return !(sqlStatementContext instanceof SelectStatementContext) || !((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
+    }
+    
+    private boolean isStatelessSession() {
+        return connectionSession.isAutoCommit() && !connectionSession.getTransactionStatus().isInTransaction() && TransactionType.LOCAL == connectionSession.getTransactionStatus().getTransactionType()
+                && null == connectionSession.getIsolationLevel() && connectionSession.getRequiredSessionVariableRecorder().isEmpty();
+    }
+    
+    private boolean isSameCharacterSet() {
+        MySQLCharacterSet characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get();
+        return null != characterSet && characterSet.getId() <= MAX_CHARACTER_SET_ID
+                && characterSet.getCharset().equals(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private boolean hasResultDecorator(final ShardingSphereDatabase database) {
+        for (ResultProcessEngine each : ResultProcessEngineFactory.getInstances(database.getRuleMetaData().getRules()).values()) {
+            if (each instanceof ResultDecoratorEngine) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
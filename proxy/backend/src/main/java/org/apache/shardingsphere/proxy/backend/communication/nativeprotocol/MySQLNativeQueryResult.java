@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * MySQL native query result of text protocol.
+ * 
+ * <p>
+ * Rows are kept as raw packets and only decoded if values are required, so that transparent rows could be sent to client as they are.
+ * </p>
+ */
+public final class MySQLNativeQueryResult implements PassThroughQueryResult {
+    
+    private static final int LOCAL_INFILE_HEADER = 0xfb;
+    
+    private static final int NULL_VALUE = 0xfb;
+    
+    private static final int MAX_EOF_PAYLOAD_LENGTH = 9;
+    
+    private final MySQLNativeConnectionPool pool;
+    
+    private final MySQLNativeConnection connection;
+    
+    private final MySQLNativeQueryResultMetaData metaData;
+    
+    private ByteBuf currentRow;
+    
+    private List<Object> currentValues;
+    
+    private boolean wasNull;
+    
+    private boolean finished;
+    
+    private boolean closed;
+    
+    private MySQLNativeQueryResult(final MySQLNativeConnectionPool pool, final MySQLNativeConnection connection, final MySQLNativeQueryResultMetaData metaData) {
+        this.pool = pool;
+        this.connection = connection;
+        this.metaData = metaData;
+    }
+    
+    /**
+     * Execute query.
+     *
+     * @param pool pool which connection belongs to
+     * @param connection connection to execute query, which would be released to pool once query result closed or query failed
+     * @param sql SQL to be executed
+     * @return query result
+     * @throws SQLException SQL exception
+     */
+    public static MySQLNativeQueryResult execute(final MySQLNativeConnectionPool pool, final MySQLNativeConnection connection, final String sql) throws SQLException {
+        connection.sendQuery(sql);
+        boolean reusable = false;
+        try {
+            ByteBuf packet = connection.readPacket();
+            int columnCount;
+            try {
+                int header = getHeader(packet);
+                if (MySQLErrPacket.HEADER == header) {
+                    reusable = true;
+                    throw toSQLException(packet, connection);
+                }
+                if (MySQLOKPacket.HEADER == header || LOCAL_INFILE_HEADER == header) {
+                    throw new SQLException(String.format("Unexpected response with header `%s` for query.", header));
+                }
+                MySQLPacketPayload payload = new MySQLPacketPayload(packet, connection.getCharset());
+                payload.readInt1();
+                columnCount = (int) payload.readIntLenenc();
+            } finally {
+                packet.release();
+            }
+            return new MySQLNativeQueryResult(pool, connection, new MySQLNativeQueryResultMetaData(readColumnDefinitions(connection, columnCount)));
+        } catch (final SQLException ex) {
+            pool.releaseConnection(connection, reusable);
+            throw ex;
+        }
+    }
+    
+    private static List<MySQLColumnDefinition41Packet> readColumnDefinitions(final MySQLNativeConnection connection, final int columnCount) throws SQLException {
+        List<MySQLColumnDefinition41Packet> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            ByteBuf packet = connection.readPacket();
+            try {
+                result.add(new MySQLColumnDefinition41Packet(new MySQLPacketPayload(packet, connection.getCharset())));
+            } catch (final IllegalArgumentException ex) {
+                throw new SQLException("Invalid column definition packet.", ex);
+            } finally {
+                packet.release();
+            }
+        }
+        ByteBuf packet = connection.readPacket();
+        try {
+            if (!isEofPacket(packet)) {
+                throw new SQLException("Column definitions should be ended by EOF packet.");
+            }
+        } finally {
+            packet.release();
+        }
+        return result;
+    }
+    
+    private static int getHeader(final ByteBuf packet) {
+        return packet.getUnsignedByte(packet.readerIndex() + 1);
+    }
+    
+    private static boolean isEofPacket(final ByteBuf packet) {
+        return MySQLEofPacket.HEADER == getHeader(packet) && packet.readableBytes() - 1 < MAX_EOF_PAYLOAD_LENGTH;
+    }
+    
+    private static SQLException toSQLException(final ByteBuf packet, final MySQLNativeConnection connection) {
+        MySQLErrPacket errPacket = new MySQLErrPacket(new MySQLPacketPayload(packet, connection.getCharset()));
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        releaseCurrentRow();
+        if (finished) {
+            return false;
+        }
+        ByteBuf packet = connection.readPacket();
+        if (isEofPacket(packet)) {
+            packet.release();
+            finished = true;
+            return false;
+        }
+        if (MySQLErrPacket.HEADER == getHeader(packet)) {
+            finished = true;
+            try {
+                throw toSQLException(packet, connection);
+            } finally {
+                packet.release();
+            }
+        }
+        currentRow = packet;
+        return true;
+    }
+    
+    @Override
+    public ByteBuf getRawRowData() {
+        return currentRow.retainedSlice(currentRow.readerIndex() + 1, currentRow.readableBytes() - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = getCurrentValues().get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    private List<Object> getCurrentValues() {
+        if (null == currentValues) {
+            currentValues = decodeRow();
+        }
+        return currentValues;
+    }
+    
+    private List<Object> decodeRow() {
+        int columnCount = metaData.getColumnCount();
+        List<Object> result = new ArrayList<>(columnCount);
+        MySQLPacketPayload payload = new MySQLPacketPayload(currentRow.duplicate(), connection.getCharset());
+        payload.readInt1();
+        for (int i = 1; i <= columnCount; i++) {
+            if (NULL_VALUE == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.skipReserved(1);
+                result.add(null);
+            } else {
+                result.add(metaData.isBinary(i) ? payload.readStringLenencByBytes() : payload.readStringLenenc());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        throw new UnsupportedSQLOperationException("getCalendarValue");
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        throw new UnsupportedSQLOperationException("getInputStream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public MySQLNativeQueryResultMetaData getMetaData() {
+        return metaData;
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        releaseCurrentRow();
+        // Connection with unread rows is closed rather than drained, since the rest rows may be too many to be read.
+        pool.releaseConnection(connection, finished);
+    }
+    
+    private void releaseCurrentRow() {
+        if (null != currentRow) {
+            currentRow.release();
+            currentRow = null;
+            currentValues = null;
+        }
+    }
+}
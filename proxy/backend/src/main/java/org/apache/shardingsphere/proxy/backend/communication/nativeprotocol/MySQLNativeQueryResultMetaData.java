@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.JDBCType;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * MySQL native query result meta data.
+ */
+@RequiredArgsConstructor
+public final class MySQLNativeQueryResultMetaData implements QueryResultMetaData {
+    
+    private static final int BINARY_CHARACTER_SET_ID = 63;
+    
+    private static final int NOT_NULL_FLAG = 0x01;
+    
+    private static final int UNSIGNED_FLAG = 0x20;
+    
+    private static final int AUTO_INCREMENT_FLAG = 0x200;
+    
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    @Override
+    public int getColumnCount() {
+        return columnDefinitions.size();
+    }
+    
+    @Override
+    public String getTableName(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getTable();
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getOrgName();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getName();
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        MySQLColumnDefinition41Packet columnDefinition = columnDefinitions.get(columnIndex - 1);
+        boolean binary = BINARY_CHARACTER_SET_ID == columnDefinition.getCharacterSet();
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_TINY:
+                return Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_FLOAT:
+                return Types.REAL;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_TIMESTAMP2:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_DATETIME2:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+            case MYSQL_TYPE_YEAR:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+            case MYSQL_TYPE_TIME2:
+                return Types.TIME;
+            case MYSQL_TYPE_BIT:
+                return Types.BIT;
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+                return binary ? Types.VARBINARY : Types.VARCHAR;
+            case MYSQL_TYPE_STRING:
+            case MYSQL_TYPE_ENUM:
+            case MYSQL_TYPE_SET:
+                return binary ? Types.BINARY : Types.CHAR;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+            case MySQL_TYPE_JSON:
+                return binary ? Types.LONGVARBINARY : Types.LONGVARCHAR;
+            default:
+                return Types.BINARY;
+        }
+    }
+    
+    @Override
+    public String getColumnTypeName(final int columnIndex) {
+        return JDBCType.valueOf(getColumnType(columnIndex)).getName();
+    }
+    
+    @Override
+    public int getColumnLength(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getColumnLength();
+    }
+    
+    @Override
+    public int getDecimals(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getDecimals();
+    }
+    
+    @Override
+    public boolean isSigned(final int columnIndex) {
+        return (columnDefinitions.get(columnIndex - 1).getFlags() & UNSIGNED_FLAG) != UNSIGNED_FLAG;
+    }
+    
+    @Override
+    public boolean isNotNull(final int columnIndex) {
+        return (columnDefinitions.get(columnIndex - 1).getFlags() & NOT_NULL_FLAG) == NOT_NULL_FLAG;
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int columnIndex) {
+        return (columnDefinitions.get(columnIndex - 1).getFlags() & AUTO_INCREMENT_FLAG) == AUTO_INCREMENT_FLAG;
+    }
+    
+    /**
+     * Judge whether column is binary.
+     *
+     * @param columnIndex column index
+     * @return column is binary or not
+     */
+    public boolean isBinary(final int columnIndex) {
+        return BINARY_CHARACTER_SET_ID == columnDefinitions.get(columnIndex - 1).getCharacterSet();
+    }
+}
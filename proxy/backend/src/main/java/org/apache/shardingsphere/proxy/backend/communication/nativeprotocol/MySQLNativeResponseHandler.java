@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response handler of MySQL native backend connection, which queues received packets for the executing thread.
+ *
+ * <p>
+ * Reading from the backend is suspended while too many packets are queued, and resumed after the executing thread consumed them,
+ * so a slow frontend client does not make the proxy buffer the whole result set.
+ * </p>
+ */
+public final class MySQLNativeResponseHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int HIGH_WATER_MARK = 1024;
+    
+    private static final int LOW_WATER_MARK = 256;
+    
+    private static final Object CHANNEL_INACTIVE = new Object();
+    
+    private final BlockingQueue<Object> responses = new LinkedBlockingQueue<>();
+    
+    private volatile Channel channel;
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        channel = ctx.channel();
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        if (responses.size() + 1 >= HIGH_WATER_MARK) {
+            ctx.channel().config().setAutoRead(false);
+        }
+        responses.offer(msg);
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        responses.offer(CHANNEL_INACTIVE);
+        ctx.fireChannelInactive();
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+        responses.offer(cause);
+        ctx.channel().close();
+    }
+    
+    /**
+     * Take next received packet, waiting up to the specified time if necessary.
+     *
+     * <p>
+     * Channel is closed if no packet received in time, because the late response would be mistaken for the response of next command.
+     * </p>
+     *
+     * @param timeoutMillis how long to wait in milliseconds
+     * @return received packet, which should be released by caller
+     * @throws SQLException SQL exception if connection failed, closed or timed out
+     */
+    public ByteBuf take(final long timeoutMillis) throws SQLException {
+        Object result;
+        try {
+            result = responses.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            channel.close();
+            throw new SQLException(ex);
+        }
+        if (null == result) {
+            channel.close();
+            throw new SQLException(String.format("No response received from native backend connection in %s milliseconds.", timeoutMillis));
+        }
+        if (!channel.config().isAutoRead() && responses.size() <= LOW_WATER_MARK) {
+            channel.config().setAutoRead(true);
+        }
+        if (result instanceof ByteBuf) {
+            return (ByteBuf) result;
+        }
+        responses.offer(result);
+        throw result instanceof Throwable ? new SQLException((Throwable) result) : new SQLException("Native backend connection is closed.");
+    }
+    
+    /**
+     * Release queued packets.
+     */
+    public void releaseQueuedPackets() {
+        Object each;
+        while (null != (each = responses.poll())) {
+            ReferenceCountUtil.release(each);
+        }
+    }
+}
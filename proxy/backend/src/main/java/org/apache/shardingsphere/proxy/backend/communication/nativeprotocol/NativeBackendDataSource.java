@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.communication.BackendDataSource;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Native backend data source, which connects to backend by database protocol directly.
+ * 
+ * <p>
+ * Pools whose data source has been dropped with its database or storage unit are closed by a periodic check.
+ * </p>
+ */
+@Slf4j
+public final class NativeBackendDataSource implements BackendDataSource {
+    
+    private static final long STALE_POOL_CHECK_INTERVAL_SECONDS = 5L;
+    
+    private static volatile NativeBackendDataSource instance;
+    
+    private final Map<String, MySQLNativeConnectionPool> mySQLPools = new ConcurrentHashMap<>();
+    
+    private final Map<String, DataSource> unsupportedDataSources = new ConcurrentHashMap<>();
+    
+    private final EventLoopGroup eventLoopGroup;
+    
+    private NativeBackendDataSource() {
+        // Backend connections use their own event loops, because OLTP commands are executed on frontend event loops and block there.
+        eventLoopGroup = new NioEventLoopGroup(0, ExecutorThreadFactoryBuilder.build("ShardingSphere-Native-Backend-%d"));
+        eventLoopGroup.scheduleWithFixedDelay(this::closeStalePools, STALE_POOL_CHECK_INTERVAL_SECONDS, STALE_POOL_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Get instance of native backend data source.
+     *
+     * @return instance of native backend data source
+     */
+    public static NativeBackendDataSource getInstance() {
+        if (null == instance) {
+            synchronized (NativeBackendDataSource.class) {
+                if (null == instance) {
+                    log.warn("Experimental native backend enabled, transparent MySQL queries may be executed without JDBC.");
+                    instance = new NativeBackendDataSource();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Find MySQL native connection pool.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return MySQL native connection pool, empty if data source is not a MySQL data source which could be connected natively
+     */
+    public Optional<MySQLNativeConnectionPool> findMySQLPool(final String databaseName, final String dataSourceName) {
+        DataSource dataSource = findDataSource(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), databaseName, dataSourceName);
+        if (!(dataSource instanceof HikariDataSource)) {
+            return Optional.empty();
+        }
+        String key = String.join(".", databaseName, dataSourceName);
+        MySQLNativeConnectionPool result = mySQLPools.get(key);
+        if (null != result && result.getDataSource() == dataSource) {
+            return Optional.of(result);
+        }
+        if (unsupportedDataSources.get(key) == dataSource) {
+            return Optional.empty();
+        }
+        Optional<MySQLNativeConnectionOption> option = MySQLNativeConnectionOption.create((HikariDataSource) dataSource);
+        if (!option.isPresent() || ((HikariDataSource) dataSource).getMaximumPoolSize() < 2) {
+            unsupportedDataSources.put(key, dataSource);
+            return Optional.empty();
+        }
+        result = mySQLPools.compute(key, (unused, oldPool) -> {
+            if (null != oldPool && oldPool.getDataSource() == dataSource) {
+                return oldPool;
+            }
+            if (null != oldPool) {
+                oldPool.close();
+            }
+            return new MySQLNativeConnectionPool((HikariDataSource) dataSource, eventLoopGroup, option.get());
+        });
+        return Optional.of(result);
+    }
+    
+    private DataSource findDataSource(final ShardingSphereMetaData metaData, final String databaseName, final String dataSourceName) {
+        return metaData.containsDatabase(databaseName) ? metaData.getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName) : null;
+    }
+    
+    private void closeStalePools() {
+        Collection<DataSource> dataSources = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            dataSources.addAll(each.getResourceMetaData().getDataSources().values());
+        }
+        for (Entry<String, MySQLNativeConnectionPool> entry : mySQLPools.entrySet()) {
+            if (!dataSources.contains(entry.getValue().getDataSource()) && mySQLPools.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().close();
+            }
+        }
+        unsupportedDataSources.values().removeIf(each -> !dataSources.contains(each));
+    }
+}
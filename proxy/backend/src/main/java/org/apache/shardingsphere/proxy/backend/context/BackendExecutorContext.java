@@ -17,23 +17,52 @@
 
 package org.apache.shardingsphere.proxy.backend.context;
 
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Backend executor context.
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    private static final long PREFETCH_KEEP_ALIVE_SECONDS = 60L;
+    
+    private final ExecutorEngine executorEngine;
+    
+    private final ExecutorService prefetchExecutorService;
+    
+    private BackendExecutorContext() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        executorEngine = createExecutorEngine(props);
+        prefetchExecutorService = createPrefetchExecutorService(props);
+    }
+    
+    private static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        int executorSize = props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE);
+        boolean virtualThreadEnabled = props.getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED);
+        return ExecutorEngine.createExecutorEngineWithSize(executorSize, virtualThreadEnabled);
+    }
+    
+    /*
+     * Read ahead tasks hold a thread until their result set is consumed, so they get their own bounded pool without queue: a rejected task makes the result set be read by its consumer instead of
+     * waiting behind other read ahead tasks or occupying kernel executor threads.
+     */
+    private static ExecutorService createPrefetchExecutorService(final ConfigurationProperties props) {
+        int executorSize = props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE);
+        int maximumPoolSize = executorSize > 0 ? executorSize : Runtime.getRuntime().availableProcessors() * 2;
+        return new ThreadPoolExecutor(0, maximumPoolSize, PREFETCH_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("Proxy-Prefetch-%d"));
+    }
     
     /**
      * Get executor context instance.
@@ -27,8 +27,11 @@ import org.apache.shardingsphere.distsql.parser.statement.rul.RULStatement;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.parser.normalize.NormalizedSQLStatement;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -50,6 +53,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.FlushStatem
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowCreateUserStatement;
@@ -59,6 +63,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -165,6 +170,51 @@ public final class ProxyBackendHandlerFactory {
         return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(queryContext, connectionSession, preferPreparedStatement));
     }
     
+    /**
+     * Find backend handler of SQL which literals are normalized to parameters.
+     *
+     * <p>Only MySQL DML statements executed by database communication engine are supported,
+     * other statements should be handled with original SQL, because their executors or backend drivers depend on the original literals.</p>
+     *
+     * @param databaseType database type
+     * @param sql original SQL
+     * @param normalizedSQLStatement normalized SQL statement, which literals are bound as parameters
+     * @param connectionSession connection session
+     * @return found backend handler, empty if normalized SQL statement is not supported
+     * @throws SQLException SQL exception
+     */
+    public static Optional<ProxyBackendHandler> findNormalizedSQLBackendHandler(final DatabaseType databaseType, final String sql, final NormalizedSQLStatement normalizedSQLStatement,
+                                                                                final ConnectionSession connectionSession) throws SQLException {
+        if (!"MySQL".equals(DatabaseTypeEngine.getTrunkDatabaseTypeName(databaseType)) || !(normalizedSQLStatement.getSqlStatement() instanceof DMLStatement)) {
+            return Optional.empty();
+        }
+        List<Object> params = normalizedSQLStatement.getParameters();
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(),
+                params, normalizedSQLStatement.getSqlStatement(), connectionSession.getDefaultDatabaseName());
+        QueryContext queryContext = new QueryContext(sqlStatementContext, normalizedSQLStatement.getSql(), params);
+        connectionSession.setQueryContext(queryContext);
+        if (isHandledByOtherBackendHandler(databaseType, sqlStatementContext, sql, connectionSession)) {
+            return Optional.empty();
+        }
+        return Optional.of(newInstance(databaseType, queryContext, connectionSession, false));
+    }
+    
+    private static boolean isHandledByOtherBackendHandler(final DatabaseType databaseType, final SQLStatementContext<?> sqlStatementContext, final String sql,
+                                                          final ConnectionSession connectionSession) {
+        return DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession, sql).isPresent()
+                || DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatementContext, connectionSession).isPresent()
+                || findExtraProxyBackendHandler(sqlStatementContext.getSqlStatement()).isPresent();
+    }
+    
+    /**
+     * Judge whether SQL literal normalization is enabled.
+     *
+     * @return SQL literal normalization is enabled or not
+     */
+    public static boolean isSQLLiteralNormalizationEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_LITERAL_NORMALIZATION_ENABLED);
+    }
+    
     private static void checkUnsupportedDistSQLStatementInTransaction(final SQLStatement sqlStatement, final ConnectionSession connectionSession) {
         ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction() || isSupportedDistSQLStatementInTransaction(sqlStatement),
                 () -> new UnsupportedSQLOperationException("Non-query dist sql is not supported within a transaction"));
@@ -289,6 +289,27 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    public void assertGetConnectionsAndReplayMultipleSessionVariablesInBatch() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key1", "value1");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key2", "value2");
+        List<Connection> actualConnections;
+        try (MockedStatic<ProxyContext> mockedStatic = mockStatic(ProxyContext.class)) {
+            ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+            mockedStatic.when(ProxyContext::getInstance).thenReturn(proxyContext);
+            Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+            when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+            when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class)))
+                    .thenReturn(Collections.singletonList(connection));
+            actualConnections = backendConnection.getConnections("", 1, ConnectionMode.CONNECTION_STRICTLY);
+        }
+        Statement actualStatement = actualConnections.get(0).createStatement();
+        verify(actualStatement).addBatch("SET key1=value1");
+        verify(actualStatement).addBatch("SET key2=value2");
+        verify(actualStatement).executeBatch();
+        verify(actualStatement, times(0)).execute(anyString());
+    }
+    
     @Test
     public void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
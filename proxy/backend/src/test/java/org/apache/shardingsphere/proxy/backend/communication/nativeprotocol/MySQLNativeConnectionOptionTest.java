@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLNativeConnectionOptionTest {
+    
+    @Test
+    public void assertCreateWithHonoredProperties() {
+        HikariDataSource dataSource = createDataSource("jdbc:mysql://127.0.0.1:3307/foo_db?useSSL=false&connectTimeout=1000&socketTimeout=2000&characterEncoding=utf8&serverTimezone=UTC");
+        Optional<MySQLNativeConnectionOption> actual = MySQLNativeConnectionOption.create(dataSource);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getHost(), is("127.0.0.1"));
+        assertThat(actual.get().getPort(), is(3307));
+        assertThat(actual.get().getDatabase(), is("foo_db"));
+        assertThat(actual.get().getUsername(), is("root"));
+        assertThat(actual.get().getConnectTimeoutMillis(), is(1000));
+        assertThat(actual.get().getReadTimeoutMillis(), is(2000L));
+        assertThat(actual.get().getCharacterEncoding(), is(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void assertCreateWithDefaultProperties() {
+        HikariDataSource dataSource = createDataSource("jdbc:mysql://127.0.0.1/foo_db?sslMode=DISABLED");
+        dataSource.setConnectionTimeout(3000L);
+        Optional<MySQLNativeConnectionOption> actual = MySQLNativeConnectionOption.create(dataSource);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getPort(), is(3306));
+        assertThat(actual.get().getConnectTimeoutMillis(), is(3000));
+        assertThat(actual.get().getReadTimeoutMillis(), is(600000L));
+        assertThat(actual.get().getCharacterEncoding(), nullValue());
+    }
+    
+    @Test
+    public void assertCreateWithoutSSLDisabled() {
+        assertFalse(MySQLNativeConnectionOption.create(createDataSource("jdbc:mysql://127.0.0.1:3306/foo_db")).isPresent());
+    }
+    
+    @Test
+    public void assertCreateWithUnsupportedUrlProperty() {
+        assertFalse(MySQLNativeConnectionOption.create(createDataSource("jdbc:mysql://127.0.0.1:3306/foo_db?useSSL=false&useCompression=true")).isPresent());
+    }
+    
+    @Test
+    public void assertCreateWithUnsupportedDataSourceProperty() {
+        HikariDataSource dataSource = createDataSource("jdbc:mysql://127.0.0.1:3306/foo_db?useSSL=false");
+        dataSource.addDataSourceProperty("allowMultiQueries", "true");
+        assertFalse(MySQLNativeConnectionOption.create(dataSource).isPresent());
+    }
+    
+    @Test
+    public void assertCreateWithInvalidProperty() {
+        assertFalse(MySQLNativeConnectionOption.create(createDataSource("jdbc:mysql://127.0.0.1:3306/foo_db?useSSL=false&socketTimeout=foo")).isPresent());
+    }
+    
+    @Test
+    public void assertCreateWithNotMySQLUrl() {
+        assertFalse(MySQLNativeConnectionOption.create(createDataSource("jdbc:postgresql://127.0.0.1:5432/foo_db")).isPresent());
+    }
+    
+    private HikariDataSource createDataSource(final String jdbcUrl) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(jdbcUrl);
+        result.setUsername("root");
+        return result;
+    }
+}
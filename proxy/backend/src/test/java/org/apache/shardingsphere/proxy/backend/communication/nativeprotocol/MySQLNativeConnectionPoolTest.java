@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.EventLoopGroup;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLNativeConnectionPoolTest {
+    
+    @Test
+    public void assertShareConnectionBudgetWithDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(11);
+        MySQLNativeConnectionPool pool = new MySQLNativeConnectionPool(dataSource, mock(EventLoopGroup.class), createOption());
+        assertThat(dataSource.getMaximumPoolSize(), is(6));
+        pool.close();
+        assertThat(dataSource.getMaximumPoolSize(), is(11));
+        pool.close();
+        assertThat(dataSource.getMaximumPoolSize(), is(11));
+    }
+    
+    @Test
+    public void assertTryGetConnectionAfterClosed() {
+        MySQLNativeConnectionPool pool = new MySQLNativeConnectionPool(new HikariDataSource(), mock(EventLoopGroup.class), createOption());
+        pool.close();
+        assertFalse(pool.tryGetConnection(MySQLCharacterSet.UTF8MB4_GENERAL_CI).isPresent());
+    }
+    
+    @Test
+    public void assertTryGetConnectionWithDifferentCharacterEncoding() {
+        MySQLNativeConnectionPool pool = new MySQLNativeConnectionPool(new HikariDataSource(), mock(EventLoopGroup.class), createOption());
+        assertFalse(pool.tryGetConnection(MySQLCharacterSet.LATIN1_SWEDISH_CI).isPresent());
+    }
+    
+    private MySQLNativeConnectionOption createOption() {
+        return new MySQLNativeConnectionOption("127.0.0.1", 3306, "root", "", "foo_db", 1000, 1000L, StandardCharsets.UTF_8);
+    }
+}
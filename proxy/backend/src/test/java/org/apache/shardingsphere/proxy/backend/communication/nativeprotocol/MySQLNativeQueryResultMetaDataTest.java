@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLNativeQueryResultMetaDataTest {
+    
+    private final MySQLNativeQueryResultMetaData metaData = new MySQLNativeQueryResultMetaData(Arrays.asList(
+            new MySQLColumnDefinition41Packet(2, 33, 0x221, "db", "o", "t_order", "id", "order_id", 20, MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG, 0, false),
+            new MySQLColumnDefinition41Packet(3, 63, 0, "db", "o", "t_order", "data", "data", 255, MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING, 0, false),
+            new MySQLColumnDefinition41Packet(4, 33, 0, "db", "o", "t_order", "amount", "amount", 10, MySQLBinaryColumnType.MYSQL_TYPE_NEWDECIMAL, 2, false)));
+    
+    @Test
+    public void assertGetColumnInfo() {
+        assertThat(metaData.getColumnCount(), is(3));
+        assertThat(metaData.getTableName(1), is("o"));
+        assertThat(metaData.getColumnName(1), is("order_id"));
+        assertThat(metaData.getColumnLabel(1), is("id"));
+        assertThat(metaData.getColumnLength(1), is(20));
+        assertThat(metaData.getDecimals(3), is(2));
+    }
+    
+    @Test
+    public void assertGetColumnType() {
+        assertThat(metaData.getColumnType(1), is(Types.BIGINT));
+        assertThat(metaData.getColumnTypeName(1), is("BIGINT"));
+        assertThat(metaData.getColumnType(2), is(Types.VARBINARY));
+        assertThat(metaData.getColumnType(3), is(Types.DECIMAL));
+    }
+    
+    @Test
+    public void assertGetFlags() {
+        assertFalse(metaData.isSigned(1));
+        assertTrue(metaData.isNotNull(1));
+        assertTrue(metaData.isAutoIncrement(1));
+        assertTrue(metaData.isSigned(2));
+        assertFalse(metaData.isNotNull(2));
+        assertTrue(metaData.isBinary(2));
+        assertFalse(metaData.isBinary(3));
+    }
+}
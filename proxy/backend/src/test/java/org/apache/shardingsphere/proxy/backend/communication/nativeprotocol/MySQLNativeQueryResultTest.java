@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.nativeprotocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLNativeQueryResultTest {
+    
+    @Mock
+    private MySQLNativeConnectionPool pool;
+    
+    private EmbeddedChannel channel;
+    
+    private MySQLNativeConnection connection;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLNativeResponseHandler());
+        connection = new MySQLNativeConnection(channel, MySQLCharacterSet.UTF8MB4_GENERAL_CI, 1000L);
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        channel.writeInbound(createColumnCountPacket(2), createColumnDefinitionPacket(2, 33, "order_id", MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG),
+                createColumnDefinitionPacket(3, 33, "status", MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING),
+                createPacket(new MySQLEofPacket(4, 0)), createRowPacket(5, "1", "ok"), createRowPacket(6, "2", null), createPacket(new MySQLEofPacket(7, 0)));
+        MySQLNativeQueryResult actual = MySQLNativeQueryResult.execute(pool, connection, "SELECT order_id, status FROM t_order");
+        assertThat(actual.getMetaData().getColumnCount(), is(2));
+        assertThat(actual.getMetaData().getColumnLabel(2), is("status"));
+        assertThat(actual.getMetaData().getColumnType(1), is(Types.BIGINT));
+        assertTrue(actual.next());
+        ByteBuf rawRowData = actual.getRawRowData();
+        assertThat(ByteBufUtil.getBytes(rawRowData), is(new byte[]{1, '1', 2, 'o', 'k'}));
+        rawRowData.release();
+        assertThat(actual.getValue(2, Object.class), is("ok"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("2"));
+        assertThat(actual.getValue(2, Object.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        actual.close();
+        verify(pool).releaseConnection(connection, true);
+    }
+    
+    @Test
+    public void assertExecuteQueryWithErrorResponse() {
+        channel.writeInbound(createPacket(new MySQLErrPacket(1, 1146, "42S02", "Table 'db.t_order' doesn't exist")));
+        try {
+            MySQLNativeQueryResult.execute(pool, connection, "SELECT * FROM t_order");
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1146));
+            assertThat(ex.getSQLState(), is("42S02"));
+        }
+        verify(pool).releaseConnection(connection, true);
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException {
+        channel.writeInbound(createColumnCountPacket(1), createColumnDefinitionPacket(2, 63, "data", MySQLBinaryColumnType.MYSQL_TYPE_BLOB),
+                createPacket(new MySQLEofPacket(3, 0)), createRowPacket(4, "a"), createRowPacket(5, "b"));
+        MySQLNativeQueryResult actual = MySQLNativeQueryResult.execute(pool, connection, "SELECT data FROM t_order");
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new byte[]{'a'}));
+        actual.close();
+        verify(pool).releaseConnection(connection, false);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextAfterChannelInactive() throws SQLException {
+        channel.writeInbound(createColumnCountPacket(1), createColumnDefinitionPacket(2, 33, "status", MySQLBinaryColumnType.MYSQL_TYPE_VAR_STRING),
+                createPacket(new MySQLEofPacket(3, 0)));
+        MySQLNativeQueryResult actual = MySQLNativeQueryResult.execute(pool, connection, "SELECT status FROM t_order");
+        channel.close();
+        actual.next();
+    }
+    
+    @Test
+    public void assertExecuteQueryWithoutResponseInTime() {
+        try {
+            MySQLNativeQueryResult.execute(pool, connection, "SELECT * FROM t_order");
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("No response received from native backend connection in 1000 milliseconds."));
+        }
+        assertFalse(channel.isActive());
+        verify(pool).releaseConnection(connection, false);
+    }
+    
+    private ByteBuf createColumnCountPacket(final int columnCount) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(1);
+        new MySQLPacketPayload(result, StandardCharsets.UTF_8).writeIntLenenc(columnCount);
+        return result;
+    }
+    
+    private ByteBuf createColumnDefinitionPacket(final int sequenceId, final int characterSet, final String columnName, final MySQLBinaryColumnType columnType) {
+        return createPacket(new MySQLColumnDefinition41Packet(sequenceId, characterSet, "db", "t_order", "t_order", columnName, columnName, 50, columnType, 0, false));
+    }
+    
+    private ByteBuf createPacket(final MySQLPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(packet.getSequenceId());
+        packet.write(new MySQLPacketPayload(result, StandardCharsets.UTF_8));
+        return result;
+    }
+    
+    private ByteBuf createRowPacket(final int sequenceId, final String... values) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(sequenceId);
+        MySQLPacketPayload payload = new MySQLPacketPayload(result, StandardCharsets.UTF_8);
+        for (String each : values) {
+            if (null == each) {
+                payload.writeInt1(0xfb);
+            } else {
+                payload.writeStringLenenc(each);
+            }
+        }
+        return result;
+    }
+}
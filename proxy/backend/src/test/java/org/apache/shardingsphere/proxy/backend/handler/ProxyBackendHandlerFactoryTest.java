@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.proxy.backend.handler;
 
+import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.normalize.NormalizedSQLStatement;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -60,12 +63,18 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -271,4 +280,27 @@ public final class ProxyBackendHandlerFactoryTest extends ProxyContextRestorer {
         ProxyBackendHandler actual = ProxyBackendHandlerFactory.newInstance(databaseType, sql, connectionSession);
         assertThat(actual, instanceOf(SQLRULBackendHandler.class));
     }
+    
+    @Test
+    public void assertNewInstanceWithPostgreSQLTypedLiteralNotNormalized() throws SQLException {
+        String sql = "SELECT * FROM t_order WHERE create_date = '2020-01-01'";
+        DatabaseType postgreSQLDatabaseType = DatabaseTypeFactory.getInstance("PostgreSQL");
+        Optional<NormalizedSQLStatement> normalizedSQLStatement = createSQLParserEngine("PostgreSQL").parseNormalized(sql);
+        assertTrue(normalizedSQLStatement.isPresent());
+        assertFalse(ProxyBackendHandlerFactory.findNormalizedSQLBackendHandler(postgreSQLDatabaseType, sql, normalizedSQLStatement.get(), connectionSession).isPresent());
+        verify(connectionSession, never()).setQueryContext(any(QueryContext.class));
+    }
+    
+    @Test
+    public void assertFindNormalizedSQLBackendHandlerWithAdminQuery() throws SQLException {
+        String sql = "SELECT * FROM information_schema.schemata WHERE schema_name = 'db'";
+        Optional<NormalizedSQLStatement> normalizedSQLStatement = createSQLParserEngine("MySQL").parseNormalized(sql);
+        assertTrue(normalizedSQLStatement.isPresent());
+        assertFalse(ProxyBackendHandlerFactory.findNormalizedSQLBackendHandler(databaseType, sql, normalizedSQLStatement.get(), connectionSession).isPresent());
+    }
+    
+    private ShardingSphereSQLParserEngine createSQLParserEngine(final String databaseType) {
+        CacheOption cacheOption = new CacheOption(128, 1024);
+        return new ShardingSphereSQLParserEngine(databaseType, cacheOption, cacheOption, false);
+    }
 }
@@ -67,6 +67,7 @@ public final class ShardingSphereProxy {
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
             BackendExecutorContext.getInstance().getExecutorEngine().close();
+            BackendExecutorContext.getInstance().getPrefetchExecutorService().shutdownNow();
         }
     }
     
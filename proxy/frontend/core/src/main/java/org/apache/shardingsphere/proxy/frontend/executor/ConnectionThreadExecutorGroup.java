@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadUtil;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread is a virtual thread if virtual thread is enabled and supported by current JVM.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -61,7 +64,16 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        boolean virtualThreadEnabled = ProxyVirtualThreadUtil.isEnabled() && VirtualThreadUtil.isSupported();
+        ThreadFactory threadFactory = virtualThreadEnabled ? runnable -> newVirtualThread(runnable, threadName) : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+    
+    private Thread newVirtualThread(final Runnable runnable, final String threadName) {
+        Thread result = VirtualThreadUtil.getThreadFactory().newThread(runnable);
+        result.setName(threadName);
+        return result;
     }
     
     /**
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.flush.FlushConsolidationHandler;
+
+/**
+ * Frontend flush consolidation handler.
+ * 
+ * <p>
+ * Flushes are consolidated only while channel is writable.
+ * Once channel becomes unwritable, command executor flushes and waits for channel to drain, which never happens if the consolidated flush is scheduled on the event loop
+ * running the command itself, such as with {@code proxy-backend-executor-suitable: OLTP}, so flushes of unwritable channel are passed through immediately.
+ * </p>
+ */
+public final class FrontendFlushConsolidationHandler extends FlushConsolidationHandler {
+    
+    public FrontendFlushConsolidationHandler() {
+        super(DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true);
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            super.flush(ctx);
+            return;
+        }
+        ctx.flush();
+    }
+}
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -70,4 +72,9 @@ public final class JDBCOKProxyState implements OKProxyState {
     public String getType() {
         return "JDBC";
     }
+    
+    @Override
+    public Collection<String> getTypeAliases() {
+        return Collections.singleton("ExperimentalNative");
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class FrontendFlushConsolidationHandlerTest {
+    
+    @Test
+    public void assertConsolidateFlushWhenWritable() {
+        EmbeddedChannel channel = createChannel();
+        channel.write(Unpooled.wrappedBuffer(new byte[4]));
+        assertTrue(channel.isWritable());
+        channel.pipeline().flush();
+        assertTrue(channel.outboundMessages().isEmpty());
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages().size(), is(1));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertFlushImmediatelyWhenUnwritableOnEventLoop() {
+        EmbeddedChannel channel = createChannel();
+        channel.write(Unpooled.wrappedBuffer(new byte[4096]));
+        assertFalse(channel.isWritable());
+        channel.pipeline().flush();
+        assertThat(channel.outboundMessages().size(), is(1));
+        assertTrue(channel.isWritable());
+        channel.finishAndReleaseAll();
+    }
+    
+    private EmbeddedChannel createChannel() {
+        EmbeddedChannel result = new EmbeddedChannel(new FrontendFlushConsolidationHandler());
+        result.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1024, 2048));
+        return result;
+    }
+}
@@ -43,6 +43,7 @@ public final class ServerHandlerInitializerTest {
             initializer.initChannel(channel);
         }
         verify(pipeline).addLast(any(ChannelAttrInitializer.class));
+        verify(pipeline).addLast(any(FrontendFlushConsolidationHandler.class));
         verify(pipeline).addLast(any(PacketCodec.class));
         verify(pipeline).addLast(any(FrontendChannelLimitationInboundHandler.class));
         verify(pipeline).addLast(any(FrontendChannelInboundHandler.class));
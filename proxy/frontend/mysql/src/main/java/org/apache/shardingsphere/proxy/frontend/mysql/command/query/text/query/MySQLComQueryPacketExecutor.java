@@ -21,12 +21,15 @@ import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLRawTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.parser.normalize.NormalizedSQLStatement;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
@@ -47,6 +50,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -67,12 +71,27 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = DatabaseTypeFactory.getInstance("MySQL");
-        SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
-                : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession);
+        Optional<ProxyBackendHandler> normalizedSQLBackendHandler = findNormalizedSQLBackendHandler(packet.getSql(), databaseType);
+        if (normalizedSQLBackendHandler.isPresent()) {
+            proxyBackendHandler = normalizedSQLBackendHandler.get();
+        } else {
+            SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
+            proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
+                    : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession);
+        }
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
+    private Optional<ProxyBackendHandler> findNormalizedSQLBackendHandler(final String sql, final DatabaseType databaseType) throws SQLException {
+        if (SQLUtil.trimComment(sql).isEmpty() || !ProxyBackendHandlerFactory.isSQLLiteralNormalizationEnabled()) {
+            return Optional.empty();
+        }
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        Optional<NormalizedSQLStatement> normalizedSQLStatement = sqlParserRule.getSQLParserEngine(databaseType.getType()).parseNormalized(sql);
+        return normalizedSQLStatement.isPresent() ? ProxyBackendHandlerFactory.findNormalizedSQLBackendHandler(databaseType, sql, normalizedSQLStatement.get(), connectionSession) : Optional.empty();
+    }
+    
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
         if (SQLUtil.trimComment(sql).isEmpty()) {
             return new EmptyStatement();
@@ -117,6 +136,9 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
+        if (proxyBackendHandler instanceof DatabaseCommunicationEngine && ((DatabaseCommunicationEngine) proxyBackendHandler).isPassThrough()) {
+            return new MySQLRawTextResultSetRowPacket(++currentSequenceId, ((DatabaseCommunicationEngine) proxyBackendHandler).getRawRowData());
+        }
         return new MySQLTextResultSetRowPacket(++currentSequenceId, proxyBackendHandler.getRowData().getData());
     }
     
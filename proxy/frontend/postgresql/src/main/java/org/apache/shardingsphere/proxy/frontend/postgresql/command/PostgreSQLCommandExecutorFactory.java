@@ -46,6 +46,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -74,26 +75,33 @@ public final class PostgreSQLCommandExecutorFactory {
         if (aggregatedCommandPacket.isContainsBatchedStatements()) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
         }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
-            result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
-        }
-        return new PostgreSQLAggregatedCommandExecutor(result);
+        return new PostgreSQLAggregatedCommandExecutor(getCommandExecutors(aggregatedCommandPacket.getPackets(), connectionSession, portalContext));
     }
     
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket, final ConnectionSession connectionSession,
                                                                                    final PortalContext portalContext) throws SQLException {
         List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
-        int firstBindIndex = aggregatedCommandPacket.getFirstBindIndex();
-        int lastExecuteIndex = aggregatedCommandPacket.getLastExecuteIndex();
-        List<CommandExecutor> result = new ArrayList<>(firstBindIndex + packets.size() - lastExecuteIndex);
-        for (int i = 0; i < firstBindIndex; i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
+        Map<Integer, Integer> batchedStatementsRanges = aggregatedCommandPacket.getBatchedStatementsRanges();
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        int index = 0;
+        while (index < packets.size()) {
+            Integer lastExecuteIndex = batchedStatementsRanges.get(index);
+            if (null != lastExecuteIndex) {
+                List<PostgreSQLCommandPacket> batchedPackets = packets.subList(index, lastExecuteIndex + 1);
+                result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, batchedPackets, getCommandExecutors(batchedPackets, connectionSession, portalContext)));
+                index = lastExecuteIndex + 1;
+                continue;
+            }
+            PostgreSQLCommandPacket each = packets.get(index++);
             result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
-        result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(firstBindIndex, lastExecuteIndex + 1)));
-        for (int i = lastExecuteIndex + 1; i < packets.size(); i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
+        return result;
+    }
+    
+    private static List<CommandExecutor> getCommandExecutors(final List<PostgreSQLCommandPacket> packets, final ConnectionSession connectionSession,
+                                                             final PortalContext portalContext) throws SQLException {
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        for (PostgreSQLCommandPacket each : packets) {
             result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
         return result;
@@ -44,6 +44,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBC
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.ProxyContextRestorer;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -56,6 +57,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -67,6 +69,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest extends ProxyContextRestorer {
@@ -90,6 +94,7 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest exte
     @Test
     public void assertExecute() throws SQLException {
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
         ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
@@ -120,7 +125,8 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest exte
                 .thenReturn(preparedStatement);
         when(connectionSession.getStatementManager()).thenReturn(backendStatement);
         when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
-        PostgreSQLAggregatedBatchedStatementsCommandExecutor batchedStatementsCommandExecutor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, preparePackets());
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor batchedStatementsCommandExecutor =
+                new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, preparePackets(), Collections.emptyList());
         List<DatabasePacket<?>> actualPackets = new ArrayList<>(batchedStatementsCommandExecutor.execute());
         assertThat(actualPackets.size(), is(BATCH_SIZE * 3));
         for (int i = 0; i < BATCH_SIZE; i++) {
@@ -130,6 +136,33 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest exte
         }
     }
     
+    @Test
+    public void assertExecuteSelectOneByOne() throws SQLException {
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
+        String sql = "select id from t_order where id = ?";
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(SQL_PARSER_ENGINE.parse(sql, false));
+        connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(STATEMENT_ID,
+                new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, Collections.singletonList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4)));
+        List<PostgreSQLCommandPacket> packets = preparePackets();
+        List<CommandExecutor> executorsOfPackets = new ArrayList<>(packets.size());
+        List<DatabasePacket<?>> expectedPackets = new ArrayList<>(packets.size());
+        for (int i = 0; i < packets.size(); i++) {
+            CommandExecutor executor = mock(CommandExecutor.class);
+            DatabasePacket<?> packet = mock(DatabasePacket.class);
+            when(executor.execute()).thenReturn(Collections.singletonList(packet));
+            executorsOfPackets.add(executor);
+            expectedPackets.add(packet);
+        }
+        Collection<DatabasePacket<?>> actual = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets, executorsOfPackets).execute();
+        assertThat(new ArrayList<>(actual), is(expectedPackets));
+        for (CommandExecutor each : executorsOfPackets) {
+            verify(each).close();
+        }
+        verify(connectionSession, never()).getBackendConnection();
+    }
+    
     private List<PostgreSQLCommandPacket> preparePackets() {
         List<PostgreSQLCommandPacket> result = new ArrayList<>();
         for (int i = 0; i < BATCH_SIZE; i++) {
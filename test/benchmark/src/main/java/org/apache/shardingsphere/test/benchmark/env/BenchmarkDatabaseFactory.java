@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRootConfiguration;
+import org.apache.shardingsphere.infra.yaml.config.swapper.resource.YamlDataSourceConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Benchmark database factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkDatabaseFactory {
+    
+    /**
+     * Create new instance of database with rules configured by YAML file and in-memory mocked data sources.
+     *
+     * @param ruleType rule type, which is the YAML file name under {@code env} directory
+     * @return created database
+     * @throws IOException IO exception
+     */
+    public static ShardingSphereDatabase newInstance(final String ruleType) throws IOException {
+        YamlRootConfiguration rootConfig = YamlEngine.unmarshal(readResource(String.format("env/%s.yaml", ruleType)), YamlRootConfiguration.class);
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(
+                new YamlDataSourceConfigurationSwapper().swapToDataSources(rootConfig.getDataSources()), new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(rootConfig.getRules()));
+        DatabaseType databaseType = DatabaseTypeFactory.getInstance("MySQL");
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(databaseType, DefaultDatabase.LOGIC_NAME);
+        Collection<ShardingSphereRule> rules = new LinkedList<>(DatabaseRulesBuilder.build(DefaultDatabase.LOGIC_NAME, databaseConfig, null));
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, databaseType, new ShardingSphereResourceMetaData(DefaultDatabase.LOGIC_NAME, databaseConfig.getDataSources()),
+                new ShardingSphereRuleMetaData(rules), Collections.singletonMap(schemaName, createSchema()));
+    }
+    
+    private static byte[] readResource(final String path) throws IOException {
+        try (InputStream inputStream = BenchmarkDatabaseFactory.class.getClassLoader().getResourceAsStream(path)) {
+            Preconditions.checkNotNull(inputStream, "Can not find benchmark configuration `%s`", path);
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+    
+    private static ShardingSphereSchema createSchema() {
+        Map<String, ShardingSphereTable> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, true, true, false),
+                new ShardingSphereColumn("amount", Types.DECIMAL, false, false, false, true, false),
+                new ShardingSphereColumn("create_time", Types.TIMESTAMP, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_order_item", new ShardingSphereTable("t_order_item", Arrays.asList(
+                new ShardingSphereColumn("item_id", Types.BIGINT, true, false, false, true, false),
+                new ShardingSphereColumn("order_id", Types.BIGINT, false, false, false, true, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false),
+                new ShardingSphereColumn("product_name", Types.VARCHAR, false, false, true, true, false)), Collections.emptyList(), Collections.emptyList()));
+        return new ShardingSphereSchema(tables, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Benchmark query context factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkQueryContextFactory {
+    
+    /**
+     * Create new instance of query context.
+     *
+     * @param database database
+     * @param benchmarkSQL benchmark SQL
+     * @return created query context
+     */
+    public static QueryContext newInstance(final ShardingSphereDatabase database, final BenchmarkSQL benchmarkSQL) {
+        return newInstance(database, benchmarkSQL.getSql(), benchmarkSQL.getParameters());
+    }
+    
+    /**
+     * Create new instance of query context.
+     *
+     * @param database database
+     * @param sql SQL
+     * @param params SQL parameters
+     * @return created query context
+     */
+    public static QueryContext newInstance(final ShardingSphereDatabase database, final String sql, final List<Object> params) {
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(database.getProtocolType().getType(),
+                DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION, false);
+        SQLStatement sqlStatement = sqlParserEngine.parse(sql, false);
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(database.getName(), database),
+                new ShardingSphereRuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, params, sqlStatement, database.getName());
+        return new QueryContext(sqlStatementContext, sql, params);
+    }
+}
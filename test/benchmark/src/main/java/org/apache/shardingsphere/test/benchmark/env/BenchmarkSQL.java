@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.env;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark SQL.
+ */
+@Getter
+public enum BenchmarkSQL {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", 10, 1000L),
+    
+    SCATTER_SELECT("SELECT order_id, user_id, status FROM t_order WHERE status = ? ORDER BY order_id", "init"),
+    
+    BINDING_JOIN_SELECT("SELECT o.order_id, i.item_id, i.product_name FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id IN (?, ?)", 10, 1000L, 1001L),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status, amount) VALUES (?, ?, ?, ?), (?, ?, ?, ?)", 1000L, 10, "init", 100, 1001L, 11, "init", 200),
+    
+    UPDATE("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", "paid", 10, 1000L);
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    BenchmarkSQL(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = Arrays.asList(parameters);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkQueryContextFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Merge benchmark context factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MergeBenchmarkContextFactory {
+    
+    /**
+     * Create new instance of select statement context with column indexes set up.
+     *
+     * @param database database
+     * @param sql select SQL
+     * @param columnLabels column labels of query results
+     * @return created select statement context
+     */
+    public static SelectStatementContext newInstance(final ShardingSphereDatabase database, final String sql, final List<String> columnLabels) {
+        SelectStatementContext result = (SelectStatementContext) BenchmarkQueryContextFactory.newInstance(database, sql, Collections.emptyList()).getSqlStatementContext();
+        Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < columnLabels.size(); i++) {
+            columnLabelIndexMap.put(columnLabels.get(i), i + 1);
+        }
+        result.setIndexes(columnLabelIndexMap);
+        return result;
+    }
+}
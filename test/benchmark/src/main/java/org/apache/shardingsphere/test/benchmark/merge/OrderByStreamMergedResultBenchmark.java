@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkDatabaseFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link OrderByStreamMergedResult}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderByStreamMergedResultBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, create_time FROM t_order ORDER BY create_time, order_id";
+    
+    private static final long BASE_TIME_MILLIS = 1640995200000L;
+    
+    @Param({"4", "16", "64", "128"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowsPerShard;
+    
+    private ShardingSphereDatabase database;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private SyntheticQueryResultBuilder queryResultBuilder;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        database = BenchmarkDatabaseFactory.newInstance("sharding");
+        selectStatementContext = MergeBenchmarkContextFactory.newInstance(database, SQL, Arrays.asList("order_id", "user_id", "create_time"));
+        queryResultBuilder = new SyntheticQueryResultBuilder(Arrays.asList(
+                new RawQueryResultColumnMetaData("t_order", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("t_order", "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData("t_order", "create_time", "create_time", Types.TIMESTAMP, "DATETIME", 19, 0)), createShardRows());
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        Random random = new Random(shardCount);
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowsPerShard);
+            long time = BASE_TIME_MILLIS;
+            for (int row = 0; row < rowsPerShard; row++) {
+                time += random.nextInt(1000);
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList((long) row * shardCount + shard, random.nextInt(10000), new Timestamp(time))));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = new OrderByStreamMergedResult(queryResultBuilder.build(), selectStatementContext, database.getSchema(database.getName()));
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.merge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic query result builder, which holds rows of each shard in memory and creates fresh query results to be merged.
+ */
+@RequiredArgsConstructor
+public final class SyntheticQueryResultBuilder {
+    
+    private final List<RawQueryResultColumnMetaData> columns;
+    
+    private final List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    /**
+     * Build query results.
+     *
+     * @return query results of all shards
+     */
+    public List<QueryResult> build() {
+        RawQueryResultMetaData metaData = new RawQueryResultMetaData(columns);
+        List<QueryResult> result = new ArrayList<>(shardRows.size());
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            result.add(new RawMemoryQueryResult(metaData, each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.parser;
+
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkSQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingSphereSQLParserEngine#parse(String, boolean)} of each dialect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLParserBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "openGauss", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    @Param({"POINT_SELECT", "SCATTER_SELECT", "BINDING_JOIN_SELECT", "INSERT", "UPDATE"})
+    private BenchmarkSQL benchmarkSQL;
+    
+    private ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        sqlParserEngine = new ShardingSphereSQLParserEngine(databaseType,
+                DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION, false);
+    }
+    
+    /**
+     * Benchmark parse without cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return sqlParserEngine.parse(benchmarkSQL.getSql(), false);
+    }
+    
+    /**
+     * Benchmark parse with SQL statement cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithCache() {
+        return sqlParserEngine.parse(benchmarkSQL.getSql(), true);
+    }
+}
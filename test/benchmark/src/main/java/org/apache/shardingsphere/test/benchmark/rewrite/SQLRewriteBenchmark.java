@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.rewrite;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.sqltranslator.api.config.SQLTranslatorRuleConfiguration;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkDatabaseFactory;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkQueryContextFactory;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkSQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SQLRewriteEntry#rewrite(String, java.util.List, org.apache.shardingsphere.infra.binder.statement.SQLStatementContext, RouteContext, ConnectionContext)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLRewriteBenchmark {
+    
+    @Param({"sharding", "readwrite-splitting", "encrypt", "mix"})
+    private String ruleType;
+    
+    @Param({"POINT_SELECT", "SCATTER_SELECT", "BINDING_JOIN_SELECT", "INSERT", "UPDATE"})
+    private BenchmarkSQL benchmarkSQL;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private ConnectionContext connectionContext;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ShardingSphereDatabase database = BenchmarkDatabaseFactory.newInstance(ruleType);
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        queryContext = BenchmarkQueryContextFactory.newInstance(database, benchmarkSQL);
+        connectionContext = new ConnectionContext();
+        routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, database);
+        sqlRewriteEntry = new SQLRewriteEntry(database, new ShardingSphereRuleMetaData(Collections.singleton(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()))), props);
+    }
+    
+    /**
+     * Benchmark rewrite.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.route;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkDatabaseFactory;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkQueryContextFactory;
+import org.apache.shardingsphere.test.benchmark.env.BenchmarkSQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SQLRouteEngine#route(ConnectionContext, QueryContext, ShardingSphereDatabase)} over rule stacks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLRouteBenchmark {
+    
+    @Param({"sharding", "readwrite-splitting", "encrypt", "mix"})
+    private String ruleType;
+    
+    @Param({"POINT_SELECT", "SCATTER_SELECT", "BINDING_JOIN_SELECT", "INSERT", "UPDATE"})
+    private BenchmarkSQL benchmarkSQL;
+    
+    private ShardingSphereDatabase database;
+    
+    private QueryContext queryContext;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private ConnectionContext connectionContext;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        database = BenchmarkDatabaseFactory.newInstance(ruleType);
+        queryContext = BenchmarkQueryContextFactory.newInstance(database, benchmarkSQL);
+        sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), new ConfigurationProperties(new Properties()));
+        connectionContext = new ConnectionContext();
+    }
+    
+    /**
+     * Benchmark route.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return sqlRouteEngine.route(connectionContext, queryContext, database);
+    }
+}
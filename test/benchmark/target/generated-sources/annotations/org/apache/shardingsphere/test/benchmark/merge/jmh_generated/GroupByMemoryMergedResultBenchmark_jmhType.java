@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.merge.jmh_generated;
+public class GroupByMemoryMergedResultBenchmark_jmhType extends GroupByMemoryMergedResultBenchmark_jmhType_B3 {
+}
+
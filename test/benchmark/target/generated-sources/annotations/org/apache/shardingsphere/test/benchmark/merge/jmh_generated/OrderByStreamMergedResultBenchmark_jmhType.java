@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.merge.jmh_generated;
+public class OrderByStreamMergedResultBenchmark_jmhType extends OrderByStreamMergedResultBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.parser.jmh_generated;
+public class SQLParserBenchmark_jmhType extends SQLParserBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.rewrite.jmh_generated;
+public class SQLRewriteBenchmark_jmhType extends SQLRewriteBenchmark_jmhType_B3 {
+}
+
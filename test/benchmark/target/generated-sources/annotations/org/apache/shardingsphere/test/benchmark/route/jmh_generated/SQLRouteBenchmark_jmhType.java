@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.route.jmh_generated;
+public class SQLRouteBenchmark_jmhType extends SQLRouteBenchmark_jmhType_B3 {
+}
+
@@ -88,6 +88,14 @@ public final class GovernanceRepositoryAPIImplTest {
         assertTrue(checkResult.get("test").getContentCheckResult().isMatched());
     }
     
+    @Test
+    public void assertPersistCheckMerkleTree() {
+        MigrationJobItemContext jobItemContext = mockJobItemContext();
+        governanceRepositoryAPI.persistCheckMerkleTree(jobItemContext.getJobId(), "source_t_order", "testValue");
+        assertThat(governanceRepositoryAPI.getCheckMerkleTree(jobItemContext.getJobId(), "source_t_order").orElse(null), is("testValue"));
+        assertFalse(governanceRepositoryAPI.getCheckMerkleTree(jobItemContext.getJobId(), "target_t_order").isPresent());
+    }
+    
     @Test
     public void assertDeleteJob() {
         governanceRepositoryAPI.persist(DataPipelineConstants.DATA_PIPELINE_ROOT + "/1", "");
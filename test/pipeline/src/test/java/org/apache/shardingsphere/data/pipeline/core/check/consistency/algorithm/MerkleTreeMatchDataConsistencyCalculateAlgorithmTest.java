@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDirtyRange;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlInventoryIncrementalJobItemProgress;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlJobItemIncrementalTasksProgress;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineContextUtil;
+import org.apache.shardingsphere.data.pipeline.yaml.consistency.YamlDataConsistencyMerkleTree;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+public final class MerkleTreeMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private static final String JOB_ID = "j0101merkle_tree";
+    
+    private PipelineDataSourceWrapper source;
+    
+    private PipelineDataSourceWrapper target;
+    
+    private MerkleTreeMatchDataConsistencyCalculateAlgorithm calculateAlgorithm;
+    
+    @BeforeClass
+    public static void beforeClass() {
+        PipelineContextUtil.mockModeConfigAndContextManager();
+    }
+    
+    @Before
+    public void setUp() throws SQLException {
+        source = new PipelineDataSourceWrapper(createHikariDataSource("merkle_source_ds"), new H2DatabaseType());
+        createTableAndInitData(source, "t_order_copy");
+        target = new PipelineDataSourceWrapper(createHikariDataSource("merkle_target_ds"), new H2DatabaseType());
+        createTableAndInitData(target, "t_order");
+        calculateAlgorithm = new MerkleTreeMatchDataConsistencyCalculateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("bucket-count", "8");
+        props.setProperty("chunk-size", "7");
+        calculateAlgorithm.init(props);
+        PipelineAPIFactory.getGovernanceRepositoryAPI().deleteJob(JOB_ID);
+    }
+    
+    private HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        result.setMinimumIdle(2);
+        result.setConnectionTimeout(15 * 1000);
+        result.setIdleTimeout(40 * 1000);
+        return result;
+    }
+    
+    private void createTableAndInitData(final PipelineDataSourceWrapper dataSource, final String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String sql = String.format("CREATE TABLE %s (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", tableName);
+            connection.createStatement().execute(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", tableName));
+            for (int i = 0; i < 100; i++) {
+                preparedStatement.setInt(1, i + 1);
+                preparedStatement.setInt(2, i + 1);
+                preparedStatement.setString(3, "test");
+                preparedStatement.execute();
+            }
+        }
+    }
+    
+    @Test
+    public void assertCalculateWithoutJobId() throws SQLException {
+        DataConsistencyCalculatedResult sourceResult = calculate(source, "t_order_copy", true, null);
+        updateStatus(target, "t_order", 100, "changed");
+        DataConsistencyCalculatedResult targetResult = calculate(target, "t_order", false, null);
+        assertThat(sourceResult.getRecordsCount(), is(100));
+        assertThat(targetResult.getRecordsCount(), is(100));
+        assertThat(((MerkleTreeMatchDataConsistencyCalculateAlgorithm.CalculatedResult) sourceResult).getBuckets().size(), is(8));
+        assertNotEquals(sourceResult, targetResult);
+        updateStatus(target, "t_order", 100, "test");
+        assertEquals(calculate(source, "t_order_copy", true, null), calculate(target, "t_order", false, null));
+    }
+    
+    @Test
+    public void assertRecalculateDirtyBucketsOnly() throws SQLException {
+        persistDirtyRanges(Collections.singletonList(new IncrementalTaskDirtyRange(1L, 1L, 1L)));
+        assertEquals(calculate(source, "t_order_copy", true, JOB_ID), calculate(target, "t_order", false, JOB_ID));
+        YamlDataConsistencyMerkleTree persistedTree = loadTree("target_t_order");
+        assertThat(persistedTree.getBuckets().size(), is(8));
+        assertThat(persistedTree.getObservedDirtyVersions().get(0), is(1L));
+        updateStatus(source, "t_order_copy", 50, "changed");
+        updateStatus(target, "t_order", 50, "changed");
+        updateStatus(target, "t_order", 10, "not_tracked");
+        persistDirtyRanges(Arrays.asList(new IncrementalTaskDirtyRange(1L, 1L, 1L), new IncrementalTaskDirtyRange(50L, 50L, 2L)));
+        assertEquals(calculate(source, "t_order_copy", true, JOB_ID), calculate(target, "t_order", false, JOB_ID));
+        assertThat(loadTree("target_t_order").getObservedDirtyVersions().get(0), is(2L));
+        updateStatus(target, "t_order", 60, "changed");
+        persistDirtyRanges(Arrays.asList(new IncrementalTaskDirtyRange(1L, 1L, 1L), new IncrementalTaskDirtyRange(50L, 60L, 3L)));
+        assertNotEquals(calculate(source, "t_order_copy", true, JOB_ID), calculate(target, "t_order", false, JOB_ID));
+    }
+    
+    @Test
+    public void assertRecalculateAllBucketsIfDirtyRangesVersionReset() throws SQLException {
+        persistDirtyRanges(Collections.singletonList(new IncrementalTaskDirtyRange(1L, 1L, 5L)));
+        assertEquals(calculate(source, "t_order_copy", true, JOB_ID), calculate(target, "t_order", false, JOB_ID));
+        updateStatus(target, "t_order", 10, "changed");
+        persistDirtyRanges(Collections.singletonList(new IncrementalTaskDirtyRange(1L, 1L, 1L)));
+        assertNotEquals(calculate(source, "t_order_copy", true, JOB_ID), calculate(target, "t_order", false, JOB_ID));
+    }
+    
+    private DataConsistencyCalculatedResult calculate(final PipelineDataSourceWrapper dataSource, final String logicTableName, final boolean sourceSide, final String jobId) {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        DataConsistencyCalculateParameter param = new DataConsistencyCalculateParameter(dataSource, null, logicTableName, Collections.emptyList(), "MySQL", "MySQL", uniqueKey, null);
+        param.setJobId(jobId);
+        param.setSourceSide(sourceSide);
+        DataConsistencyCalculatedResult result = calculateAlgorithm.calculateChunk(param).orElse(null);
+        param.setPreviousCalculatedResult(result);
+        assertThat(calculateAlgorithm.calculateChunk(param).isPresent(), is(false));
+        return result;
+    }
+    
+    private void updateStatus(final PipelineDataSourceWrapper dataSource, final String tableName, final int orderId, final String status) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(String.format("UPDATE %s SET status=? WHERE order_id=?", tableName))) {
+            preparedStatement.setString(1, status);
+            preparedStatement.setInt(2, orderId);
+            assertThat(preparedStatement.executeUpdate(), is(1));
+        }
+    }
+    
+    private void persistDirtyRanges(final List<IncrementalTaskDirtyRange> dirtyRanges) {
+        YamlJobItemIncrementalTasksProgress incrementalProgress = new YamlJobItemIncrementalTasksProgress();
+        incrementalProgress.setDirtyRanges(dirtyRanges);
+        YamlInventoryIncrementalJobItemProgress progress = new YamlInventoryIncrementalJobItemProgress();
+        progress.setIncremental(incrementalProgress);
+        PipelineAPIFactory.getGovernanceRepositoryAPI().persistJobItemProgress(JOB_ID, 0, YamlEngine.marshal(progress));
+    }
+    
+    private YamlDataConsistencyMerkleTree loadTree(final String treeName) {
+        String yamlText = PipelineAPIFactory.getGovernanceRepositoryAPI().getCheckMerkleTree(JOB_ID, treeName).orElse("");
+        assertFalse(yamlText.isEmpty());
+        return YamlEngine.unmarshal(yamlText, YamlDataConsistencyMerkleTree.class);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        try (Connection connection = source.getConnection()) {
+            connection.createStatement().execute("DROP TABLE t_order_copy");
+        }
+        try (Connection connection = target.getConnection()) {
+            connection.createStatement().execute("DROP TABLE t_order");
+        }
+        source.close();
+        target.close();
+    }
+}
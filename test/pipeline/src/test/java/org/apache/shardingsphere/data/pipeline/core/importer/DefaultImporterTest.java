@@ -42,6 +42,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -51,7 +52,10 @@ import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,8 +86,8 @@ public final class DefaultImporterTest {
     
     @Before
     public void setUp() throws SQLException {
-        jdbcImporter = new DefaultImporter(mockImporterConfiguration(), dataSourceManager, channel, new FixtureInventoryIncrementalJobItemContext());
-        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        jdbcImporter = new DefaultImporter(mockImporterConfiguration(dataSourceConfig), dataSourceManager, channel, new FixtureInventoryIncrementalJobItemContext());
+        when(dataSourceManager.getDataSource(any())).thenReturn(dataSource);
         when(dataSource.getConnection()).thenReturn(connection);
     }
     
@@ -96,7 +100,60 @@ public final class DefaultImporterTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, "INSERT");
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertWriteMultipleInsertDataRecords() throws SQLException {
+        DataRecord insertRecord2 = new DataRecord(new PlaceholderPosition(), 3);
+        insertRecord2.setTableName(TABLE_NAME);
+        insertRecord2.setType("INSERT");
+        insertRecord2.addColumn(new Column("id", 2, true, true));
+        insertRecord2.addColumn(new Column("user", 20, true, false));
+        insertRecord2.addColumn(new Column("status", "INSERT", true, false));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(Arrays.asList(getDataRecord("INSERT"), insertRecord2, new FinishedRecord(new PlaceholderPosition())));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(argThat(sql -> sql.contains("VALUES(?,?,?),(?,?,?)")));
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).setObject(anyInt(), eq(2));
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertUpsertUpdateDataRecordWithoutKeyChanged() throws SQLException {
+        PipelineDataSourceConfiguration mysqlDataSourceConfig = new StandardPipelineDataSourceConfiguration("jdbc:mysql://127.0.0.1:3306/test_db", "root", "root");
+        DefaultImporter importer = new DefaultImporter(mockImporterConfiguration(mysqlDataSourceConfig), dataSourceManager, channel, new FixtureInventoryIncrementalJobItemContext());
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getUpdateDataRecordWithoutKeyChanged()));
+        importer.run();
+        verify(connection).prepareStatement(argThat(sql -> sql.startsWith("INSERT INTO") && sql.contains("ON DUPLICATE KEY UPDATE")));
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, 10);
+        verify(preparedStatement).setObject(3, "UPDATE");
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertUpdateDataRecordWithoutKeyChangedIfUpsertNotSupported() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getUpdateDataRecordWithoutKeyChanged()));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(argThat(sql -> sql.startsWith("UPDATE")));
+        verify(preparedStatement).setObject(1, "UPDATE");
+        verify(preparedStatement).setObject(2, 1);
+        verify(preparedStatement).setObject(3, 10);
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    private DataRecord getUpdateDataRecordWithoutKeyChanged() {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName(TABLE_NAME);
+        result.setType("UPDATE");
+        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("user", 10, false, false));
+        result.addColumn(new Column("status", "UPDATE", true, false));
+        return result;
     }
     
     @Test
@@ -169,7 +226,7 @@ public final class DefaultImporterTest {
         return result;
     }
     
-    private ImporterConfiguration mockImporterConfiguration() {
+    private ImporterConfiguration mockImporterConfiguration(final PipelineDataSourceConfiguration dataSourceConfig) {
         Map<LogicTableName, Set<String>> shardingColumnsMap = Collections.singletonMap(new LogicTableName("test_table"), Collections.singleton("user"));
         return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
     }
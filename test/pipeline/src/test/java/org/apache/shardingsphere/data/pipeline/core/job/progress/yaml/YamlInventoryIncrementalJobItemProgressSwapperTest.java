@@ -44,6 +44,10 @@ public final class YamlInventoryIncrementalJobItemProgressSwapperTest {
         assertThat(actual.getInventory().getUnfinished().get("ds1.t_2"), is("i,1,2"));
         assertThat(actual.getInventory().getUnfinished().get("ds1.t_1"), is(""));
         assertThat(actual.getIncremental().getPosition().length(), is(0));
+        assertThat(actual.getIncremental().getDirtyRanges().size(), is(2));
+        assertThat(actual.getIncremental().getDirtyRanges().get(0).getLowerBound(), is(1L));
+        assertThat(actual.getIncremental().getDirtyRanges().get(0).getUpperBound(), is(10L));
+        assertThat(actual.getIncremental().getDirtyRanges().get(1).getVersion(), is(3L));
     }
     
     @Test
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfig
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByRangeException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
@@ -112,6 +113,20 @@ public final class InventoryTaskSplitterTest {
         inventoryTaskSplitter.splitInventoryData(jobItemContext);
     }
     
+    @Test
+    public void assertSplitInventoryDataWithStringPrimary() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        initStringPrimaryEnvironment(taskConfig.getDumperConfig());
+        InventoryDumperConfiguration dumperConfig = ReflectionUtil.getFieldValue(inventoryTaskSplitter, "dumperConfig", InventoryDumperConfiguration.class);
+        assertNotNull(dumperConfig);
+        dumperConfig.setUniqueKeyDataType(Types.VARCHAR);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is("!"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is("k010"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getBeginValue(), is("k091"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getEndValue(), is("k100"));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(taskConfig.getDumperConfig());
@@ -173,6 +188,19 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%03d', 'x')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
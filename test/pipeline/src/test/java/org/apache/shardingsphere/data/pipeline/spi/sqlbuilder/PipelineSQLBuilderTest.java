@@ -40,6 +40,12 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        assertThat(pipelineSQLBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t3"), 1), is("INSERT INTO t3(id,sc,c1,c2,c3) VALUES(?,?,?,?,?)"));
+        assertThat(pipelineSQLBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t3"), 2), is("INSERT INTO t3(id,sc,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
     @Test
     public void assertBuildUpdateSQLWithPrimaryKey() {
         String actual = pipelineSQLBuilder.buildUpdateSQL(null, mockDataRecord("t2"), RecordUtil.extractPrimaryColumns(mockDataRecord("t2")));